@@ -16,7 +16,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
  * Configuration class for the application.
  *
  * <p>This class provides configuration for user authentication, including the setup of a
- * custom {@link UserDetailsService}, an {@link AuthenticationProvider}, and a {@link PasswordEncoder}.</p>
+ * custom, cached {@link UserDetailsService}, an {@link AuthenticationProvider}, and a {@link PasswordEncoder}.</p>
  *
  * @author Paweł Hajdo
  * @version 1.0
@@ -25,24 +25,32 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class ApplicationConfig {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     /**
-     * Constructs an ApplicationConfig with the specified UserRepository.
+     * Constructs an ApplicationConfig with the specified UserRepository, UserDetailsCache and PasswordHashingExecutor.
      *
-     * @param userRepository The repository for User entities.
+     * @param userRepository          The repository for User entities.
+     * @param userDetailsCache        The cache of resolved users.
+     * @param passwordHashingExecutor The bounded executor password hashing runs on.
      */
-    public ApplicationConfig(UserRepository userRepository) {
+    public ApplicationConfig(UserRepository userRepository, UserDetailsCache userDetailsCache,
+                             PasswordHashingExecutor passwordHashingExecutor) {
         this.userRepository = userRepository;
+        this.userDetailsCache = userDetailsCache;
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
     /**
-     * Creates a custom UserDetailsService bean.
+     * Creates a custom UserDetailsService bean. Users are resolved through the {@link UserDetailsCache}.
      *
      * @return The UserDetailsService implementation.
      */
     @Bean
     public UserDetailsService userDetailsService(){
-        return username -> userRepository.findByLogin(username).orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        return username -> userDetailsCache.get(username, login ->
+                userRepository.findByLogin(login).orElseThrow(() -> new UsernameNotFoundException("User not found")));
     }
 
     /**
@@ -71,12 +79,12 @@ public class ApplicationConfig {
     }
 
     /**
-     * Creates a PasswordEncoder bean using BCryptPasswordEncoder.
+     * Creates a PasswordEncoder bean using BCryptPasswordEncoder, running on the bounded hashing executor.
      *
      * @return The PasswordEncoder implementation.
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), passwordHashingExecutor);
     }
 }
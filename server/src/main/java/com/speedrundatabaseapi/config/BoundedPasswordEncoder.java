@@ -0,0 +1,46 @@
+package com.speedrundatabaseapi.config;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * PasswordEncoder running every hash and check of its delegate on the {@link PasswordHashingExecutor}.
+ *
+ * <p>BCrypt is deliberately slow, so hashing on request threads lets a burst of logins occupy every
+ * worker thread. Routing the work through the bounded executor caps the CPU spent on hashing; when the
+ * executor is saturated the calls fail fast with a {@link PasswordHashingRejectedException}.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see ApplicationConfig
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor executor;
+
+    /**
+     * Constructs a BoundedPasswordEncoder.
+     *
+     * @param delegate The encoder doing the actual hashing.
+     * @param executor The executor the hashing runs on.
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.execute("encode", () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.execute("matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
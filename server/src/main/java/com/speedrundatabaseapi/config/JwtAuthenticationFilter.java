@@ -1,5 +1,7 @@
 package com.speedrundatabaseapi.config;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,7 +21,10 @@ import java.io.IOException;
  * JwtAuthenticationFilter for processing JWT authentication.
  *
  * <p>This filter intercepts requests, extracts JWT tokens from the Authorization header,
- * validates the tokens, and sets up the Spring Security context if the token is valid.</p>
+ * verifies the tokens once per request, and sets up the Spring Security context if the token is valid.</p>
+ *
+ * <p>In the stateless mode the principal is built from the token claims; otherwise it is loaded through the
+ * {@link UserDetailsService}.</p>
  *
  * @author Paweł Hajdo
  * @version 1.0
@@ -54,21 +59,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String userLogin;
+        final Claims claims;
         if(authHeader == null || !authHeader.startsWith("Bearer ")){
             filterChain.doFilter(request, response);
             return;
         }
         jwt = authHeader.substring(7);
-        userLogin = jwtService.extractUsername(jwt);
+        try {
+            claims = jwtService.verifyToken(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        final String userLogin = claims.getSubject();
         if(userLogin != null && SecurityContextHolder.getContext().getAuthentication() == null){
-            UserDetails userDetails = userDetailsService.loadUserByUsername(userLogin);
-            if(jwtService.isTokenValid(jwt, userDetails)){
+            UserDetails userDetails = jwtService.isStateless() ? jwtService.toPrincipal(claims) : null;
+            if (userDetails == null) {
+                userDetails = userDetailsService.loadUserByUsername(userLogin);
+            }
+            if(jwtService.isTokenValid(claims, userDetails)){
                 UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authenticationToken);
             }
-            filterChain.doFilter(request, response);
         }
+        filterChain.doFilter(request, response);
     }
 }
@@ -1,17 +1,24 @@
 package com.speedrundatabaseapi.config;
 
 import com.speedrundatabaseapi.user.User;
+import com.speedrundatabaseapi.user.UserRole;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -21,6 +28,18 @@ import java.util.function.Function;
  * <p>This class provides methods for generating and validating JWTs, as well as extracting
  * information from JWT claims, such as the username and expiration date.</p>
  *
+ * <p>The signing key and the parser are built once. A token is parsed and its signature verified once per
+ * request by {@link #verifyToken(String)}; the claims of recently verified tokens are kept in a small LRU
+ * cache until the tokens expire, so clients sending many requests with the same token skip the HMAC
+ * verification. A cached token is only reused if it is identical to the verified one, so the cache never
+ * accepts a token whose signature has not been checked.</p>
+ *
+ * <p>In the opt-in stateless mode ({@code security.jwt.stateless=true}) the authenticated principal is built
+ * from the verified claims by {@link #toPrincipal(Claims)} instead of being loaded from the database. Access
+ * tokens are then short-lived and clients renew them with a refresh token, which is only accepted after the
+ * user has been looked up again, so a deleted user or a changed role takes effect within one access token
+ * lifetime.</p>
+ *
  * @author Paweł Hajdo
  * @version 1.0
  */
@@ -28,6 +47,135 @@ import java.util.function.Function;
 public class JwtService {
 
     private static String SECRET_KEY = System.getenv("ENCRYPTION_KEY");
+    private static final String TOKEN_TYPE_CLAIM = "type";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
+    private final Key signInKey;
+    private final JwtParser parser;
+    private final Map<String, Claims> verifiedTokens;
+    private final boolean stateless;
+    private final Duration accessTokenTtl;
+    private final Duration refreshTokenTtl;
+
+    /**
+     * Constructs a JwtService signing tokens with the key from the ENCRYPTION_KEY environment variable.
+     *
+     * @param verifiedTokensCacheSize The maximum number of verified tokens whose claims are cached.
+     * @param stateless               True if principals are built from token claims without a database lookup.
+     * @param tokenTtl                The lifetime of access tokens in the default mode.
+     * @param statelessTokenTtl       The lifetime of access tokens in the stateless mode.
+     * @param refreshTokenTtl         The lifetime of refresh tokens.
+     * @throws IllegalStateException If the ENCRYPTION_KEY environment variable is not set.
+     */
+    @Autowired
+    public JwtService(@Value("${security.jwt.verified-tokens-cache-size:10000}") int verifiedTokensCacheSize,
+                      @Value("${security.jwt.stateless:false}") boolean stateless,
+                      @Value("${security.jwt.token-ttl:PT6H}") Duration tokenTtl,
+                      @Value("${security.jwt.stateless-token-ttl:PT15M}") Duration statelessTokenTtl,
+                      @Value("${security.jwt.refresh-token-ttl:P7D}") Duration refreshTokenTtl) {
+        this(SECRET_KEY, verifiedTokensCacheSize, stateless, stateless ? statelessTokenTtl : tokenTtl, refreshTokenTtl);
+    }
+
+    /**
+     * Constructs a JwtService signing tokens with the given key, in the default mode.
+     *
+     * @param secretKey               The base64 encoded signing key.
+     * @param verifiedTokensCacheSize The maximum number of verified tokens whose claims are cached.
+     */
+    JwtService(String secretKey, int verifiedTokensCacheSize) {
+        this(secretKey, verifiedTokensCacheSize, false, Duration.ofHours(6), Duration.ofDays(7));
+    }
+
+    private JwtService(String secretKey, int verifiedTokensCacheSize, boolean stateless,
+                       Duration accessTokenTtl, Duration refreshTokenTtl) {
+        this.stateless = stateless;
+        this.accessTokenTtl = accessTokenTtl;
+        this.refreshTokenTtl = refreshTokenTtl;
+        if (secretKey == null || secretKey.isBlank()) {
+            throw new IllegalStateException("ENCRYPTION_KEY is not set");
+        }
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parserBuilder().setSigningKey(signInKey).build();
+        this.verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {
+                return size() > verifiedTokensCacheSize;
+            }
+        };
+    }
+
+    /**
+     * Parses a JWT token and verifies its signature and expiration, or takes its claims from the cache of
+     * recently verified tokens.
+     *
+     * @param token The JWT token.
+     * @return The claims of the token.
+     * @throws JwtException If the token is malformed, its signature is invalid or it has expired.
+     */
+    public Claims verifyToken(String token) {
+        synchronized (verifiedTokens) {
+            Claims cached = verifiedTokens.get(token);
+            if (cached != null) {
+                if (!isExpired(cached)) {
+                    return cached;
+                }
+                verifiedTokens.remove(token);
+            }
+        }
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        if (claims.getExpiration() != null) {
+            synchronized (verifiedTokens) {
+                verifiedTokens.put(token, claims);
+            }
+        }
+        return claims;
+    }
+
+    /**
+     * Checks whether principals are built from token claims without a database lookup.
+     *
+     * @return True in the stateless mode.
+     */
+    public boolean isStateless() {
+        return stateless;
+    }
+
+    /**
+     * Gets the lifetime of the access tokens generated by this service.
+     *
+     * @return The lifetime of access tokens.
+     */
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
+    }
+
+    /**
+     * Builds the authenticated principal from the claims of a verified access token, without a database lookup.
+     *
+     * <p>The principal carries the ID, login and role of the user, which is everything the authorization
+     * checks need; it has no password, email or associations.</p>
+     *
+     * @param claims The claims returned by {@link #verifyToken(String)}.
+     * @return The principal, or null if the token lacks the id or role claim.
+     */
+    public User toPrincipal(Claims claims) {
+        Number id = claims.get("id", Number.class);
+        String role = claims.get("role", String.class);
+        if (id == null || role == null) {
+            return null;
+        }
+        return new User(id.longValue(), claims.getSubject(), null, UserRole.valueOf(role), null, null, null);
+    }
+
+    /**
+     * Checks whether verified claims belong to a refresh token, which must not be used as an access token.
+     *
+     * @param claims The claims returned by {@link #verifyToken(String)}.
+     * @return True for a refresh token.
+     */
+    public boolean isRefreshToken(Claims claims) {
+        return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
+    }
 
     /**
      * Extracts the username from a JWT token.
@@ -48,7 +196,7 @@ public class JwtService {
      * @return The extracted claim value.
      */
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver){
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = verifyToken(token);
         return claimsResolver.apply(claims);
     }
 
@@ -75,13 +223,32 @@ public class JwtService {
                 .setClaims(extraClaims)
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 6)) //6 hours
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .setExpiration(new Date(System.currentTimeMillis() + accessTokenTtl.toMillis()))
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .claim("role", userDetails.getRole())
                 .claim("id", userDetails.getUserId())
                 .compact();
     }
 
+    /**
+     * Generates a long-lived refresh token for a given user. The token can only be exchanged for new tokens
+     * and is rejected as an access token.
+     *
+     * @param userDetails The user details for whom the token is generated.
+     * @return The generated refresh token.
+     */
+    public String generateRefreshToken(User userDetails){
+        return Jwts
+                .builder()
+                .setSubject(userDetails.getUsername())
+                .setIssuedAt(new Date(System.currentTimeMillis()))
+                .setExpiration(new Date(System.currentTimeMillis() + refreshTokenTtl.toMillis()))
+                .signWith(signInKey, SignatureAlgorithm.HS256)
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .claim("id", userDetails.getUserId())
+                .compact();
+    }
+
     /**
      * Validates if a JWT token is valid for a given user.
      *
@@ -90,29 +257,22 @@ public class JwtService {
      * @return True if the token is valid; false otherwise.
      */
     public Boolean isTokenValid(String token, UserDetails userDetails){
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return isTokenValid(verifyToken(token), userDetails);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
-    private Claims extractAllClaims(String token){
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * Validates if the claims of an already verified JWT token are valid for a given user.
+     *
+     * @param claims       The claims returned by {@link #verifyToken(String)}.
+     * @param userDetails  The user details for whom the token is validated.
+     * @return True if the token is valid; false otherwise.
+     */
+    public boolean isTokenValid(Claims claims, UserDetails userDetails){
+        return claims.getSubject().equals(userDetails.getUsername()) && !isExpired(claims) && !isRefreshToken(claims);
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET_KEY);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
     }
 }
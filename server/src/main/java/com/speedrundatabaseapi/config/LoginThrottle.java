@@ -0,0 +1,135 @@
+package com.speedrundatabaseapi.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-login and per-address throttling of login and registration attempts.
+ *
+ * <p>Every attempt costs a BCrypt hash, so attempts are limited before any hashing is done: at most
+ * {@code maxAttemptsPerAddress} attempts from one client address and {@code maxAttemptsPerLogin} attempts for one
+ * login within a fixed window. Attempts over the limit fail with a {@link LoginThrottledException} until the
+ * window ends. A successful login clears the counter of its login. Throttled attempts are counted by the
+ * {@code security.login.throttled} counter, tagged with {@code key=login} or {@code key=address}.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ */
+@Component
+public class LoginThrottle {
+
+    private final Map<String, Window> attemptsByLogin = new ConcurrentHashMap<>();
+    private final Map<String, Window> attemptsByAddress = new ConcurrentHashMap<>();
+    private final long windowNanos;
+    private final int maxAttemptsPerLogin;
+    private final int maxAttemptsPerAddress;
+    private final Counter throttledLogins;
+    private final Counter throttledAddresses;
+
+    /**
+     * Constructs a LoginThrottle.
+     *
+     * @param window                The length of the throttling window.
+     * @param maxAttemptsPerLogin   The number of attempts allowed for one login within a window.
+     * @param maxAttemptsPerAddress The number of attempts allowed from one client address within a window.
+     * @param meterRegistry         The registry of the throttling metrics.
+     */
+    @Autowired
+    public LoginThrottle(@Value("${security.login-throttle.window:PT1M}") Duration window,
+                         @Value("${security.login-throttle.max-attempts-per-login:10}") int maxAttemptsPerLogin,
+                         @Value("${security.login-throttle.max-attempts-per-address:30}") int maxAttemptsPerAddress,
+                         MeterRegistry meterRegistry) {
+        this.windowNanos = window.toNanos();
+        this.maxAttemptsPerLogin = maxAttemptsPerLogin;
+        this.maxAttemptsPerAddress = maxAttemptsPerAddress;
+        this.throttledLogins = Counter.builder("security.login.throttled").tag("key", "login")
+                .description("Attempts rejected by the per-login limit").register(meterRegistry);
+        this.throttledAddresses = Counter.builder("security.login.throttled").tag("key", "address")
+                .description("Attempts rejected by the per-address limit").register(meterRegistry);
+    }
+
+    /**
+     * Records an attempt and checks it against the limits.
+     *
+     * @param login   The login the attempt is for, or null for attempts not tied to an existing login.
+     * @param address The address of the client.
+     * @throws LoginThrottledException If the client address or the login has exceeded its limit.
+     */
+    public void acquire(String login, String address) {
+        long now = System.nanoTime();
+        long retryAfter = record(attemptsByAddress, address, maxAttemptsPerAddress, now);
+        if (retryAfter > 0) {
+            throttledAddresses.increment();
+            throw new LoginThrottledException("Too many attempts from this address, try again later", retryAfter);
+        }
+        if (login != null) {
+            retryAfter = record(attemptsByLogin, login.toLowerCase(Locale.ROOT), maxAttemptsPerLogin, now);
+            if (retryAfter > 0) {
+                throttledLogins.increment();
+                throw new LoginThrottledException("Too many attempts for this login, try again later", retryAfter);
+            }
+        }
+    }
+
+    /**
+     * Clears the attempts of a login after it has been used successfully.
+     *
+     * @param login The login.
+     */
+    public void reset(String login) {
+        if (login != null) {
+            attemptsByLogin.remove(login.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Drops the counters of windows that have ended, so the maps only hold recently active keys.
+     */
+    @Scheduled(fixedDelayString = "${security.login-throttle.window:PT1M}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        attemptsByLogin.values().removeIf(window -> window.isOver(now, windowNanos));
+        attemptsByAddress.values().removeIf(window -> window.isOver(now, windowNanos));
+    }
+
+    private long record(Map<String, Window> attempts, String key, int maxAttempts, long now) {
+        long[] retryAfterNanos = new long[1];
+        attempts.compute(key, (k, current) -> {
+            if (current == null || current.isOver(now, windowNanos)) {
+                return new Window(now);
+            }
+            current.attempts++;
+            if (current.attempts > maxAttempts) {
+                retryAfterNanos[0] = current.start + windowNanos - now;
+            }
+            return current;
+        });
+        if (retryAfterNanos[0] == 0) {
+            return 0;
+        }
+        return Math.max(1, (retryAfterNanos[0] + 999_999_999L) / 1_000_000_000L);
+    }
+
+    private static final class Window {
+
+        private final long start;
+        private int attempts = 1;
+
+        private Window(long start) {
+            this.start = start;
+        }
+
+        private boolean isOver(long now, long windowNanos) {
+            return now - start >= windowNanos;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.speedrundatabaseapi.config;
+
+/**
+ * Exception thrown when a login or registration attempt exceeds the allowed number of attempts
+ * for a login or a client address.
+ *
+ * <p>Requests failing with this exception should be answered with 429 Too Many Requests and a
+ * Retry-After header.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see LoginThrottle
+ */
+public class LoginThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructs a LoginThrottledException with the specified detail message and retry delay.
+     *
+     * @param message           The detail message.
+     * @param retryAfterSeconds The number of seconds after which the attempt may be repeated.
+     */
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Gets the number of seconds after which the attempt may be repeated.
+     *
+     * @return The retry delay in seconds.
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
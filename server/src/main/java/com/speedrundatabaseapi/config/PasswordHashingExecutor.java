@@ -0,0 +1,141 @@
+package com.speedrundatabaseapi.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Dedicated, bounded executor for password hashing.
+ *
+ * <p>The executor has a fixed number of threads and a bounded queue. A task submitted while the queue is full,
+ * or not finished within the configured timeout, fails immediately with a
+ * {@link PasswordHashingRejectedException} instead of holding the request thread.</p>
+ *
+ * <p>The executor publishes the {@code security.password.hashing.queue} and {@code security.password.hashing.active}
+ * gauges, the {@code security.password.hash} timer of the hashing itself (tagged with the operation), the
+ * {@code security.password.hash.wait} timer of the time spent in the queue and the
+ * {@code security.password.hashing.rejected} counter.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see BoundedPasswordEncoder
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+    private final Map<String, Timer> hashTimers;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    /**
+     * Constructs a PasswordHashingExecutor.
+     *
+     * @param threads       The number of hashing threads, or 0 for one per available processor.
+     * @param queueCapacity The maximum number of tasks waiting for a thread.
+     * @param timeout       The longest time a caller waits for its task, including the time in the queue.
+     * @param meterRegistry The registry of the executor metrics.
+     */
+    @Autowired
+    public PasswordHashingExecutor(@Value("${security.password-hashing.threads:0}") int threads,
+                                   @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${security.password-hashing.timeout:PT5S}") Duration timeout,
+                                   MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutNanos = timeout.toNanos();
+        this.hashTimers = Map.of(
+                "encode", hashTimer("encode", meterRegistry),
+                "matches", hashTimer("matches", meterRegistry));
+        this.waitTimer = Timer.builder("security.password.hash.wait")
+                .description("Time password hashing tasks spend in the queue").register(meterRegistry);
+        this.rejected = Counter.builder("security.password.hashing.rejected")
+                .description("Password hashing tasks rejected because the executor was saturated").register(meterRegistry);
+        Gauge.builder("security.password.hashing.queue", executor, e -> e.getQueue().size())
+                .description("Password hashing tasks waiting for a thread").register(meterRegistry);
+        Gauge.builder("security.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing tasks running").register(meterRegistry);
+    }
+
+    /**
+     * Runs a hashing task on the executor and waits for its result.
+     *
+     * @param operation The name of the operation, {@code encode} or {@code matches}, used as the tag of the
+     *                  latency timer.
+     * @param task      The hashing task.
+     * @param <T>       The type of the result.
+     * @return The result of the task.
+     * @throws PasswordHashingRejectedException If the queue is full or the task does not finish in time.
+     * @throws IllegalArgumentException         If the operation is unknown.
+     */
+    public <T> T execute(String operation, Supplier<T> task) {
+        Timer hashTimer = hashTimers.get(operation);
+        if (hashTimer == null) {
+            throw new IllegalArgumentException("Unknown password hashing operation: " + operation);
+        }
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingRejectedException("Server is busy, try again later");
+        }
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new PasswordHashingRejectedException("Server is busy, try again later");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException("Interrupted while waiting for password hashing");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static Timer hashTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("security.password.hash").tag("operation", operation)
+                .description("Time spent hashing passwords").register(meterRegistry);
+    }
+
+    /**
+     * Stops the hashing threads when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
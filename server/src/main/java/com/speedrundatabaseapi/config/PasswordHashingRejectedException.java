@@ -0,0 +1,23 @@
+package com.speedrundatabaseapi.config;
+
+/**
+ * Exception thrown when a password cannot be hashed or checked because the hashing executor is saturated.
+ *
+ * <p>Requests failing with this exception should be answered with 503 Service Unavailable, so clients back
+ * off instead of piling up more work.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see PasswordHashingExecutor
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    /**
+     * Constructs a PasswordHashingRejectedException with the specified detail message.
+     *
+     * @param message The detail message.
+     */
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
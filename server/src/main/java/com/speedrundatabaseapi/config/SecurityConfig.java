@@ -1,5 +1,6 @@
 package com.speedrundatabaseapi.config;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -57,11 +58,21 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests((authorize) ->
                         authorize
-                                .requestMatchers(HttpMethod.GET, "/speedruns/api/games", "/speedruns/api/games/{gameId}", "/speedruns/api/games/{gameId}/runs").permitAll()
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                                .requestMatchers(HttpMethod.GET, "/speedruns/api/games", "/speedruns/api/games/{gameId}", "/speedruns/api/games/{gameId}/runs", "/speedruns/api/games/{gameId}/leaderboard", "/speedruns/api/games/{gameId}/leaderboard/rank", "/speedruns/api/games/{gameId}/records/history").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/speedruns/api/game-ratings/top", "/speedruns/api/game-ratings/games/{gameId}/histogram").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/speedruns/api/platforms", "/speedruns/api/platforms/{platformId}").permitAll()
-                                .requestMatchers(HttpMethod.GET, "/speedruns/api/runs", "/speedruns/api/runs/{runId}").permitAll()
-                                .requestMatchers(HttpMethod.GET, "/speedruns/api/users/{userId}").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/speedruns/api/runs/export").authenticated()
+                                .requestMatchers(HttpMethod.GET, "/speedruns/api/runs/pending").hasAuthority("ADMIN")
+                                .requestMatchers(HttpMethod.POST, "/speedruns/api/runs/moderation").hasAuthority("ADMIN")
+                                .requestMatchers(HttpMethod.GET, "/speedruns/api/runs", "/speedruns/api/runs/{runId}", "/speedruns/api/runs/{runId}/rank").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/speedruns/api/users/availability").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/speedruns/api/users/{userId}", "/speedruns/api/users/{userId}/personal-bests", "/speedruns/api/users/{userId}/stats").permitAll()
                                 .requestMatchers("/speedruns/api/users", "/speedruns/api/users/login").permitAll()
+                                .requestMatchers(HttpMethod.POST, "/speedruns/api/users/tokens", "/speedruns/api/users/tokens/refresh").permitAll()
+                                .requestMatchers(HttpMethod.POST, "/speedruns/api/runs/import").hasAuthority("ADMIN")
+                                .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                                .requestMatchers("/actuator/**").hasAuthority("ADMIN")
                                 .anyRequest().authenticated())
                 .sessionManagement((session)-> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authenticationProvider(authenticationProvider)
@@ -0,0 +1,150 @@
+package com.speedrundatabaseapi.config;
+
+import com.speedrundatabaseapi.user.User;
+import com.speedrundatabaseapi.user.UserRole;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded, expiring cache of resolved users, keyed by login.
+ *
+ * <p>Every authenticated request resolves the user named in its JWT. The cache keeps the resolved users for
+ * a limited time, so a user sending many requests is looked up in the database once per expiry period rather
+ * than on every request. When the cache is full, the least recently used user is dropped.</p>
+ *
+ * <p>Only an immutable snapshot of the ID, login, password hash and role of a user is cached, never the JPA
+ * entity. Every lookup returns a new {@link User} built from the snapshot, like the principal built from token
+ * claims in the stateless mode, so requests never share an instance or touch lazy associations of a detached
+ * entity.</p>
+ *
+ * <p>A user must be evicted whenever it is changed or deleted. A lookup that started before an eviction does not
+ * put its possibly outdated result into the cache. Hits and misses are counted by the
+ * {@code security.user.cache} meter, tagged with {@code result=hit} or {@code result=miss}.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see ApplicationConfig
+ */
+@Component
+public class UserDetailsCache {
+
+    private final Map<String, CachedUser> users;
+    private final long ttlNanos;
+    private final Counter hits;
+    private final Counter misses;
+    private long generation;
+
+    /**
+     * Constructs a UserDetailsCache with the given bounds.
+     *
+     * @param maxSize       The maximum number of cached users.
+     * @param ttl           The time after which a cached user is looked up again.
+     * @param meterRegistry The registry of the cache metrics.
+     */
+    @Autowired
+    public UserDetailsCache(@Value("${security.user-cache.max-size:10000}") int maxSize,
+                            @Value("${security.user-cache.ttl:PT5M}") Duration ttl,
+                            MeterRegistry meterRegistry) {
+        this.users = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedUser> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.ttlNanos = ttl.toNanos();
+        this.hits = Counter.builder("security.user.cache").tag("result", "hit")
+                .description("Users resolved from the cache").register(meterRegistry);
+        this.misses = Counter.builder("security.user.cache").tag("result", "miss")
+                .description("Users looked up in the database").register(meterRegistry);
+        Gauge.builder("security.user.cache.size", this, UserDetailsCache::size)
+                .description("Number of cached users").register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached user with the given login, looking it up with the loader if it is not cached or expired.
+     *
+     * @param login  The login of the user.
+     * @param loader The lookup of the user in the database; it may throw if the user does not exist.
+     * @return A new user holding the ID, login, password hash and role of the user, without associations.
+     */
+    public User get(String login, Function<String, User> loader) {
+        long startGeneration;
+        synchronized (this) {
+            CachedUser cached = users.get(login);
+            if (cached != null && cached.expiresAt - System.nanoTime() > 0) {
+                hits.increment();
+                return cached.toUser();
+            }
+            startGeneration = generation;
+        }
+        misses.increment();
+        CachedUser loaded = new CachedUser(loader.apply(login), System.nanoTime() + ttlNanos);
+        synchronized (this) {
+            if (generation == startGeneration) {
+                users.put(login, loaded);
+            }
+        }
+        return loaded.toUser();
+    }
+
+    /**
+     * Removes the user with the given login from the cache.
+     *
+     * <p>If called inside a transaction, the user is removed again after the commit, so that a lookup running
+     * concurrently with the transaction cannot keep the state from before the change.</p>
+     *
+     * @param login The login of the changed or deleted user.
+     */
+    public void evict(String login) {
+        remove(login);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(login);
+                }
+            });
+        }
+    }
+
+    private synchronized void remove(String login) {
+        users.remove(login);
+        generation++;
+    }
+
+    private synchronized int size() {
+        return users.size();
+    }
+
+    private static final class CachedUser {
+
+        private final long userId;
+        private final String login;
+        private final String password;
+        private final UserRole role;
+        private final long expiresAt;
+
+        private CachedUser(User user, long expiresAt) {
+            this.userId = user.getUserId();
+            this.login = user.getLogin();
+            this.password = user.getPassword();
+            this.role = user.getRole();
+            this.expiresAt = expiresAt;
+        }
+
+        private User toUser() {
+            return new User(userId, login, password, role, null, null, null);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.speedrundatabaseapi.email;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background sender delivering the emails queued in the outbox.
+ *
+ * <p>The outbox is polled periodically. Due emails are claimed in batches with {@code FOR UPDATE SKIP LOCKED}
+ * and a lease on their next attempt, and every batch is sent over a single connection to the mail server
+ * outside of any transaction. An email that cannot be sent is
+ * retried with exponential backoff, {@code retryBackoff * 2^(attempts - 1)} capped at {@code maxBackoff},
+ * and given up after {@code maxAttempts} attempts.</p>
+ *
+ * <p>The sender publishes the {@code email.outbox.sent} and {@code email.outbox.failed} counters (the latter
+ * tagged {@code outcome=retry} or {@code outcome=dropped}), the {@code email.outbox.batch} timer and the
+ * {@code email.outbox.pending} gauge.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see OutboxEmail
+ * @see EmailService
+ */
+@Component
+public class EmailOutboxSender {
+
+    private final Logger logger = LoggerFactory.getLogger(EmailOutboxSender.class);
+    private final OutboxEmailRepository outboxEmailRepository;
+    private final EmailService emailService;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter dropped;
+    private final Timer batchTimer;
+    private final AtomicLong pending = new AtomicLong();
+
+    /**
+     * Constructor for the EmailOutboxSender class.
+     *
+     * @param outboxEmailRepository The repository of the emails waiting to be sent.
+     * @param emailService          The service building the messages.
+     * @param mailSender            The JavaMailSender used for sending emails.
+     * @param transactionManager    The transaction manager used for the batches.
+     * @param meterRegistry         The registry of the outbox metrics.
+     * @param batchSize             The maximum number of emails sent over one connection.
+     * @param maxAttempts           The number of attempts after which an email is given up.
+     * @param retryBackoff          The delay before the first retry.
+     * @param maxBackoff            The longest delay between two attempts.
+     * @param lease                 How long claimed emails are reserved for the sender, longer than sending a
+     *                              batch can take.
+     */
+    @Autowired
+    public EmailOutboxSender(OutboxEmailRepository outboxEmailRepository, EmailService emailService,
+                             JavaMailSender mailSender, PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${email.outbox.batch-size:50}") int batchSize,
+                             @Value("${email.outbox.max-attempts:8}") int maxAttempts,
+                             @Value("${email.outbox.retry-backoff:PT30S}") Duration retryBackoff,
+                             @Value("${email.outbox.max-backoff:PT1H}") Duration maxBackoff,
+                             @Value("${email.outbox.lease:PT15M}") Duration lease) {
+        this.outboxEmailRepository = outboxEmailRepository;
+        this.emailService = emailService;
+        this.mailSender = mailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+        this.sent = Counter.builder("email.outbox.sent").description("Emails sent from the outbox")
+                .register(meterRegistry);
+        this.retried = Counter.builder("email.outbox.failed").tag("outcome", "retry")
+                .description("Failed delivery attempts that will be retried").register(meterRegistry);
+        this.dropped = Counter.builder("email.outbox.failed").tag("outcome", "dropped")
+                .description("Emails given up after the last attempt").register(meterRegistry);
+        this.batchTimer = Timer.builder("email.outbox.batch").description("Time to send one batch of emails")
+                .register(meterRegistry);
+        Gauge.builder("email.outbox.pending", pending, AtomicLong::get)
+                .description("Emails waiting in the outbox").register(meterRegistry);
+    }
+
+    /**
+     * Sends all due emails, batch by batch, and refreshes the pending gauge.
+     */
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval:PT5S}")
+    public void drain() {
+        int processed;
+        do {
+            processed = sendBatch();
+        } while (processed == batchSize);
+        pending.set(outboxEmailRepository.countByStatus(OutboxEmailStatus.PENDING));
+    }
+
+    /**
+     * Claims one batch of due emails, sends it and records the outcome of every email.
+     *
+     * <p>The emails are claimed in a short transaction that moves their next attempt {@code lease} ahead, so no
+     * other sender picks them up, and the outcomes are recorded in a second one. No transaction or database
+     * connection is held while talking to the mail server. An outcome is only recorded if the claim is still
+     * in place; if the mail server stalled past the lease, the email may have been claimed again meanwhile.</p>
+     *
+     * @return The number of emails in the batch.
+     */
+    int sendBatch() {
+        LocalDateTime leaseUntil = LocalDateTime.now().plus(lease).truncatedTo(ChronoUnit.SECONDS);
+        List<OutboxEmail> claimed = transactionTemplate.execute(status -> {
+            List<OutboxEmail> due = outboxEmailRepository.lockDue(LocalDateTime.now(), batchSize);
+            due.forEach(email -> email.lease(leaseUntil));
+            return due;
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Exception> failures = new HashMap<>();
+        Map<MimeMessage, Long> idsByMessage = new IdentityHashMap<>();
+        List<MimeMessage> messages = new ArrayList<>();
+        for (OutboxEmail email : claimed) {
+            try {
+                MimeMessage message = emailService.createMessage(email);
+                idsByMessage.put(message, email.getId());
+                messages.add(message);
+            } catch (MessagingException e) {
+                failures.put(email.getId(), e);
+            }
+        }
+        Set<Long> unsendable = new HashSet<>(failures.keySet());
+        send(messages).forEach((message, failure) -> failures.put(idsByMessage.get(message), failure));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (OutboxEmail email : outboxEmailRepository.findAllById(claimed.stream().map(OutboxEmail::getId).toList())) {
+                if (email.getStatus() != OutboxEmailStatus.PENDING || !leaseUntil.equals(email.getNextAttemptAt())) {
+                    continue;
+                }
+                Exception failure = failures.get(email.getId());
+                if (unsendable.contains(email.getId())) {
+                    email.markFailed(failure.getMessage(), null);
+                    dropped.increment();
+                } else if (failure == null) {
+                    email.markSent();
+                    sent.increment();
+                } else {
+                    onFailure(email, failure);
+                }
+            }
+        });
+        return claimed.size();
+    }
+
+    private Map<Object, Exception> send(List<MimeMessage> messages) {
+        if (messages.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Timer.Sample sample = Timer.start();
+        try {
+            mailSender.send(messages.toArray(new MimeMessage[0]));
+            return Collections.emptyMap();
+        } catch (MailSendException e) {
+            if (!e.getFailedMessages().isEmpty()) {
+                return e.getFailedMessages();
+            }
+            return allFailed(messages, e);
+        } catch (MailException e) {
+            return allFailed(messages, e);
+        } finally {
+            sample.stop(batchTimer);
+        }
+    }
+
+    private Map<Object, Exception> allFailed(List<MimeMessage> messages, Exception e) {
+        logger.error("Error occurred while sending emails from the outbox: " + e.getMessage());
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        messages.forEach(message -> failures.put(message, e));
+        return failures;
+    }
+
+    private void onFailure(OutboxEmail email, Exception failure) {
+        if (email.getAttempts() + 1 >= maxAttempts) {
+            email.markFailed(failure.getMessage(), null);
+            dropped.increment();
+            logger.error("Email " + email.getId() + " dropped after " + maxAttempts + " attempts");
+        } else {
+            email.markFailed(failure.getMessage(), LocalDateTime.now().plus(backoff(email.getAttempts() + 1)));
+            retried.increment();
+        }
+    }
+
+    /**
+     * Computes the delay before the next attempt to send an email.
+     *
+     * @param failedAttempts The number of failed attempts so far, at least 1.
+     * @return The delay.
+     */
+    Duration backoff(int failedAttempts) {
+        int exponent = Math.min(failedAttempts - 1, 30);
+        Duration delay = retryBackoff.multipliedBy(1L << exponent);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
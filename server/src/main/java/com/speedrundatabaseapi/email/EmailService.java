@@ -1,13 +1,20 @@
 package com.speedrundatabaseapi.email;
 
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service class for sending emails.
  *
- * <p>This class provides a method to send emails using the configured JavaMailSender.</p>
+ * <p>This class provides methods to send emails using the configured JavaMailSender, either immediately or
+ * through the persistent outbox. Emails queued with {@link #enqueue(String, String, String)} are stored in
+ * the transaction of the caller and delivered in the background by the {@link EmailOutboxSender}, so the
+ * caller never waits for the mail server.</p>
  *
  * @author Paweł Hajdo
  * @version 1.0
@@ -15,15 +22,18 @@ import org.springframework.stereotype.Service;
 @Service
 public class EmailService {
     private final JavaMailSender mailSender;
+    private final OutboxEmailRepository outboxEmailRepository;
     private static String fromEmail = System.getenv("EMAIL");
 
     /**
      * Constructs an EmailService with the specified JavaMailSender.
      *
-     * @param mailSender The JavaMailSender used for sending emails.
+     * @param mailSender            The JavaMailSender used for sending emails.
+     * @param outboxEmailRepository The repository of the emails waiting to be sent.
      */
-    public EmailService(JavaMailSender mailSender) {
+    public EmailService(JavaMailSender mailSender, OutboxEmailRepository outboxEmailRepository) {
         this.mailSender = mailSender;
+        this.outboxEmailRepository = outboxEmailRepository;
     }
 
     /**
@@ -41,4 +51,35 @@ public class EmailService {
         message.setText(text);
         mailSender.send(message);
     }
+
+    /**
+     * Queues an email in the outbox. The email is stored in the current transaction and sent after it commits.
+     *
+     * @param to      The recipient's email address.
+     * @param subject The subject of the email.
+     * @param text    The content of the email.
+     */
+    @Transactional
+    public void enqueue(String to, String subject, String text) {
+        outboxEmailRepository.save(new OutboxEmail(to, subject, text));
+    }
+
+    /**
+     * Creates the message to be sent for an email from the outbox.
+     *
+     * @param email The email from the outbox.
+     * @return The message.
+     * @throws MessagingException If the message cannot be built, e.g. because of an invalid address.
+     */
+    MimeMessage createMessage(OutboxEmail email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        if (fromEmail != null) {
+            helper.setFrom(fromEmail);
+        }
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getText());
+        return message;
+    }
 }
@@ -0,0 +1,163 @@
+package com.speedrundatabaseapi.email;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing an email waiting in the outbox to be sent.
+ *
+ * <p>Emails are written to the email_outbox table in the transaction of the operation that triggers them,
+ * so an email is queued if and only if the operation commits. The {@link EmailOutboxSender} delivers
+ * them in the background.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see EmailService#enqueue(String, String, String)
+ * @see EmailOutboxSender
+ */
+@Entity
+@Table(name = "email_outbox",
+        indexes = @Index(name = "email_outbox_status_next_attempt_idx", columnList = "status, next_attempt_at, id"))
+public class OutboxEmail {
+
+    /** The longest error message stored with an email. */
+    static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @SequenceGenerator(
+            name = "email_outbox_sequence",
+            allocationSize = 1
+    )
+    @GeneratedValue(
+            strategy = GenerationType.SEQUENCE,
+            generator = "email_outbox_sequence"
+    )
+    @Column(name = "id")
+    private long id;
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @Column(name = "text", nullable = false, columnDefinition = "TEXT")
+    private String text;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OutboxEmailStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    /**
+     * Default constructor for the OutboxEmail class.
+     */
+    public OutboxEmail() {
+    }
+
+    /**
+     * Parameterized constructor for a new pending email, due immediately.
+     *
+     * @param recipient The recipient's email address.
+     * @param subject   The subject of the email.
+     * @param text      The content of the email.
+     */
+    public OutboxEmail(String recipient, String subject, String text) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.text = text;
+        this.status = OutboxEmailStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = createdAt;
+    }
+
+    /**
+     * Claims the email for one sender until the given time, after which it is due again.
+     *
+     * @param until The end of the claim.
+     */
+    public void lease(LocalDateTime until) {
+        this.nextAttemptAt = until;
+    }
+
+    /**
+     * Marks the email as delivered.
+     */
+    public void markSent() {
+        attempts++;
+        status = OutboxEmailStatus.SENT;
+        sentAt = LocalDateTime.now();
+        lastError = null;
+    }
+
+    /**
+     * Records a failed delivery attempt.
+     *
+     * @param error         The reason of the failure.
+     * @param nextAttemptAt The time of the next attempt, or null if the email should not be retried.
+     */
+    public void markFailed(String error, LocalDateTime nextAttemptAt) {
+        attempts++;
+        lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (nextAttemptAt == null) {
+            status = OutboxEmailStatus.FAILED;
+        } else {
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public OutboxEmailStatus getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getSentAt() {
+        return sentAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+}
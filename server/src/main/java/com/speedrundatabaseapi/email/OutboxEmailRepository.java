@@ -0,0 +1,42 @@
+package com.speedrundatabaseapi.email;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for accessing and managing the emails in the outbox.
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see OutboxEmail
+ */
+@Repository
+public interface OutboxEmailRepository extends JpaRepository<OutboxEmail, Long> {
+
+    /**
+     * Retrieves and locks a batch of pending emails whose next attempt is due, oldest first.
+     *
+     * <p>Rows locked by another sender are skipped, so several application instances can drain the
+     * outbox concurrently without sending an email twice.</p>
+     *
+     * @param now   The current time.
+     * @param limit The maximum number of emails.
+     * @return The due emails.
+     */
+    @Query(value = "select * from {h-schema}email_outbox where status = 'PENDING' and next_attempt_at <= :now " +
+            "order by next_attempt_at, id limit :limit for update skip locked", nativeQuery = true)
+    List<OutboxEmail> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Counts the emails in the given state.
+     *
+     * @param status The state of the emails.
+     * @return The number of emails.
+     */
+    long countByStatus(OutboxEmailStatus status);
+}
@@ -0,0 +1,17 @@
+package com.speedrundatabaseapi.email;
+
+/**
+ * Enumeration representing the delivery state of an email in the outbox.
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see OutboxEmail
+ */
+public enum OutboxEmailStatus {
+    /** The email waits for its first or next delivery attempt. */
+    PENDING,
+    /** The email was handed over to the mail server. */
+    SENT,
+    /** The email could not be delivered within the allowed number of attempts. */
+    FAILED
+}
@@ -0,0 +1,71 @@
+package com.speedrundatabaseapi.feed;
+
+import com.speedrundatabaseapi.pagination.CursorPage;
+import com.speedrundatabaseapi.run.Run;
+import com.speedrundatabaseapi.user.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller class for handling HTTP requests related to the activity feeds of users in the Speedrun Database API.
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see FeedService
+ */
+@RestController
+@RequestMapping(path = "speedruns/api/users/{userId}/feed")
+public class FeedController {
+
+    private final Logger logger = LoggerFactory.getLogger(FeedController.class);
+    private final FeedService feedService;
+
+    /**
+     * Constructor for FeedController, injecting dependencies.
+     *
+     * @param feedService The FeedService maintaining the feeds.
+     */
+    @Autowired
+    public FeedController(FeedService feedService) {
+        this.feedService = feedService;
+    }
+
+    /**
+     * Endpoint for retrieving a page of the feed of a user: the runs of the users it follows, newest first.
+     *
+     * @param userId The ID of the user.
+     * @param cursor The continuation token returned with the previous page (optional).
+     * @param limit  The page size (optional).
+     * @param viewer The authenticated user.
+     * @return ResponseEntity containing the page of runs or an error message.
+     */
+    @GetMapping()
+    public ResponseEntity<?> getFeed(
+            @PathVariable long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal User viewer
+    ) {
+        try {
+            CursorPage<Run> page = feedService.getFeed(userId, viewer, cursor, limit);
+            logger.info("Feed fetched successfully");
+            return ResponseEntity.ok(page);
+        } catch (AccessDeniedException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error occurred while getting feed");
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error while getting feed");
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.speedrundatabaseapi.feed;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing one run in the activity feed of a user.
+ *
+ * <p>The feed_entry table holds the timelines of all users: for every user, the recent runs of the users it
+ * follows, written by {@link FeedService} when the runs are added or confirmed. The date of the run is copied
+ * into the entry, so a page of a timeline is read from a single index without joining the run table. The
+ * entries are only written with native statements, so the entity itself is read-only.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see FeedEntryKey
+ * @see FeedService
+ */
+@Entity
+@Table(name = "feed_entry", indexes = {
+        @Index(name = "feed_entry_timeline_idx", columnList = "follower_id, run_date desc, run_id desc"),
+        @Index(name = "feed_entry_run_idx", columnList = "run_id")
+})
+public class FeedEntry {
+
+    @EmbeddedId
+    private FeedEntryKey id;
+
+    @Column(name = "author_id", nullable = false)
+    private long authorId;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDateTime runDate;
+
+    /**
+     * Default constructor for the FeedEntry class.
+     */
+    public FeedEntry() {
+    }
+
+    /**
+     * Getter method for retrieving the composite key of the entry.
+     *
+     * @return The composite key.
+     */
+    public FeedEntryKey getId() {
+        return id;
+    }
+
+    /**
+     * Getter method for retrieving the ID of the user who set the run.
+     *
+     * @return The ID of the author of the run.
+     */
+    public long getAuthorId() {
+        return authorId;
+    }
+
+    /**
+     * Getter method for retrieving the date of the run.
+     *
+     * @return The date of the run.
+     */
+    public LocalDateTime getRunDate() {
+        return runDate;
+    }
+}
@@ -0,0 +1,80 @@
+package com.speedrundatabaseapi.feed;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Composite key class for the FeedEntry entity.
+ *
+ * <p>An entry is identified by the user whose timeline holds it and the run it points to, so a run appears at
+ * most once in every timeline.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see FeedEntry
+ */
+@Embeddable
+public class FeedEntryKey implements Serializable {
+
+    /** The ID of the user whose timeline holds the entry. */
+    @Column(name = "follower_id")
+    private long followerId;
+
+    /** The ID of the run. */
+    @Column(name = "run_id")
+    private long runId;
+
+    /**
+     * Default constructor for FeedEntryKey.
+     */
+    public FeedEntryKey() {
+    }
+
+    /**
+     * Parameterized constructor for FeedEntryKey.
+     *
+     * @param followerId The ID of the user whose timeline holds the entry.
+     * @param runId      The ID of the run.
+     */
+    public FeedEntryKey(long followerId, long runId) {
+        this.followerId = followerId;
+        this.runId = runId;
+    }
+
+    /**
+     * Get the ID of the user whose timeline holds the entry.
+     *
+     * @return The ID of the user.
+     */
+    public long getFollowerId() {
+        return followerId;
+    }
+
+    /**
+     * Get the ID of the run.
+     *
+     * @return The ID of the run.
+     */
+    public long getRunId() {
+        return runId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FeedEntryKey other)) {
+            return false;
+        }
+        return followerId == other.followerId && runId == other.runId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(followerId, runId);
+    }
+}
@@ -0,0 +1,141 @@
+package com.speedrundatabaseapi.feed;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for FeedEntry entities.
+ *
+ * <p>Besides the timelines themselves, this repository reads the recent runs of authors whose runs are not
+ * fanned out, so that both sources of a feed page use the same keyset ordering: run date descending, then
+ * run ID descending.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see FeedEntry
+ */
+@Repository
+public interface FeedEntryRepository extends JpaRepository<FeedEntry, FeedEntryKey> {
+
+    /**
+     * Adds a run to the timelines of all followers of its author. Timelines already holding the run are skipped.
+     *
+     * @param authorId The ID of the user who set the run.
+     * @param runId    The ID of the run.
+     * @param runDate  The date of the run.
+     * @return The number of timelines the run was added to.
+     */
+    @Modifying
+    @Query(value = "insert into {h-schema}feed_entry (follower_id, run_id, author_id, run_date) " +
+            "select f.follower_id, :runId, :authorId, :runDate from {h-schema}follow f where f.following_id = :authorId " +
+            "on conflict (follower_id, run_id) do nothing", nativeQuery = true)
+    int fanOut(@Param("authorId") long authorId, @Param("runId") long runId, @Param("runDate") LocalDateTime runDate);
+
+    /**
+     * Retrieves the first page of the timeline of a user.
+     *
+     * @param followerId The ID of the user.
+     * @param pageable   The page size.
+     * @return The positions of the runs, newest first.
+     */
+    @Query("select new com.speedrundatabaseapi.feed.FeedPosition(e.id.runId, e.runDate) from FeedEntry e " +
+            "where e.id.followerId = :followerId order by e.runDate desc, e.id.runId desc")
+    List<FeedPosition> findFirstPage(@Param("followerId") long followerId, Pageable pageable);
+
+    /**
+     * Retrieves the page of the timeline of a user following the given position.
+     *
+     * @param followerId The ID of the user.
+     * @param runDate    The date of the last run on the previous page.
+     * @param runId      The ID of the last run on the previous page.
+     * @param pageable   The page size.
+     * @return The positions of the runs, newest first.
+     */
+    @Query("select new com.speedrundatabaseapi.feed.FeedPosition(e.id.runId, e.runDate) from FeedEntry e " +
+            "where e.id.followerId = :followerId " +
+            "and (e.runDate < :runDate or (e.runDate = :runDate and e.id.runId < :runId)) " +
+            "order by e.runDate desc, e.id.runId desc")
+    List<FeedPosition> findPageAfter(@Param("followerId") long followerId, @Param("runDate") LocalDateTime runDate,
+                                     @Param("runId") long runId, Pageable pageable);
+
+    /**
+     * Retrieves the users followed by a user whose runs are not fanned out because they have too many followers.
+     *
+     * @param followerId   The ID of the following user.
+     * @param maxFollowers The largest number of followers whose timelines are written to.
+     * @return The IDs of the followed users with more followers.
+     */
+    @Query(value = "select f.following_id from {h-schema}follow f join {h-schema}user_stats s on s.user_id = f.following_id " +
+            "where f.follower_id = :followerId and s.follower_count > :maxFollowers", nativeQuery = true)
+    List<Long> findFollowedAuthorsOver(@Param("followerId") long followerId, @Param("maxFollowers") long maxFollowers);
+
+    /**
+     * Retrieves the newest runs of the given authors, read directly from the run table.
+     *
+     * @param authorIds The IDs of the authors.
+     * @param pageable  The page size.
+     * @return The positions of the runs, newest first.
+     */
+    @Query("select new com.speedrundatabaseapi.feed.FeedPosition(r.runId, r.date) from Run r " +
+            "where r.user.userId in :authorIds and r.date is not null order by r.date desc, r.runId desc")
+    List<FeedPosition> findRunsOfAuthors(@Param("authorIds") Collection<Long> authorIds, Pageable pageable);
+
+    /**
+     * Retrieves the runs of the given authors following the given position, read directly from the run table.
+     *
+     * @param authorIds The IDs of the authors.
+     * @param runDate   The date of the last run on the previous page.
+     * @param runId     The ID of the last run on the previous page.
+     * @param pageable  The page size.
+     * @return The positions of the runs, newest first.
+     */
+    @Query("select new com.speedrundatabaseapi.feed.FeedPosition(r.runId, r.date) from Run r " +
+            "where r.user.userId in :authorIds and (r.date < :runDate or (r.date = :runDate and r.runId < :runId)) " +
+            "order by r.date desc, r.runId desc")
+    List<FeedPosition> findRunsOfAuthorsAfter(@Param("authorIds") Collection<Long> authorIds,
+                                              @Param("runDate") LocalDateTime runDate, @Param("runId") long runId,
+                                              Pageable pageable);
+
+    /**
+     * Removes deleted runs from all timelines.
+     *
+     * @param runIds The IDs of the deleted runs.
+     * @return The number of removed entries.
+     */
+    @Modifying
+    @Query("delete from FeedEntry e where e.id.runId in :runIds")
+    int deleteByRunIds(@Param("runIds") Collection<Long> runIds);
+
+    /**
+     * Removes the runs of an author from the timeline of a user who no longer follows it.
+     *
+     * @param followerId The ID of the user.
+     * @param authorId   The ID of the unfollowed author.
+     * @return The number of removed entries.
+     */
+    @Modifying
+    @Query("delete from FeedEntry e where e.id.followerId = :followerId and e.authorId = :authorId")
+    int deleteByFollowerAndAuthor(@Param("followerId") long followerId, @Param("authorId") long authorId);
+
+    /**
+     * Trims every timeline longer than the given size to its newest entries.
+     *
+     * @param maxSize The number of entries kept per timeline.
+     * @return The number of removed entries.
+     */
+    @Modifying
+    @Query(value = "delete from {h-schema}feed_entry e using (select follower_id, run_id from (" +
+            "select follower_id, run_id, row_number() over (partition by follower_id order by run_date desc, run_id desc) as position " +
+            "from {h-schema}feed_entry where follower_id in (select follower_id from {h-schema}feed_entry " +
+            "group by follower_id having count(*) > :maxSize)) ranked where position > :maxSize) old " +
+            "where e.follower_id = old.follower_id and e.run_id = old.run_id", nativeQuery = true)
+    int trim(@Param("maxSize") int maxSize);
+}
@@ -0,0 +1,48 @@
+package com.speedrundatabaseapi.feed;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position of a run in a feed: the run ID and the date the feed is ordered by.
+ *
+ * <p>Positions are read both from the stored timelines and, for authors with too many followers to fan out to,
+ * directly from the run table, and merged into one page before the runs themselves are loaded.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see FeedService
+ */
+public class FeedPosition {
+
+    private final long runId;
+    private final LocalDateTime runDate;
+
+    /**
+     * Parameterized constructor for the FeedPosition class.
+     *
+     * @param runId   The ID of the run.
+     * @param runDate The date of the run.
+     */
+    public FeedPosition(long runId, LocalDateTime runDate) {
+        this.runId = runId;
+        this.runDate = runDate;
+    }
+
+    /**
+     * Gets the ID of the run.
+     *
+     * @return The ID of the run.
+     */
+    public long getRunId() {
+        return runId;
+    }
+
+    /**
+     * Gets the date of the run.
+     *
+     * @return The date of the run.
+     */
+    public LocalDateTime getRunDate() {
+        return runDate;
+    }
+}
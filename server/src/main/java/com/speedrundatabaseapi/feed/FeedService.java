@@ -0,0 +1,213 @@
+package com.speedrundatabaseapi.feed;
+
+import com.speedrundatabaseapi.pagination.CursorCodec;
+import com.speedrundatabaseapi.pagination.CursorPage;
+import com.speedrundatabaseapi.run.Run;
+import com.speedrundatabaseapi.run.RunRepository;
+import com.speedrundatabaseapi.user.User;
+import com.speedrundatabaseapi.user.UserStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.speedrundatabaseapi.user.UserRole.ADMIN;
+
+/**
+ * Service maintaining and serving the activity feeds of users: the runs of the users they follow, newest first.
+ *
+ * <p>Feeds are written on fan-out: when a run is added or confirmed, it is inserted into the timeline of every
+ * follower of its author with a single statement. Authors with more than {@code maxFollowers} followers are not
+ * fanned out to avoid huge writes; their runs are read from the run table when a follower's feed is read and
+ * merged into the page. Timelines are bounded: a periodic job trims every timeline to its newest
+ * {@code timelineSize} entries, so a feed only reaches that far back.</p>
+ *
+ * <p>Runs appear in a timeline only when they are added or confirmed after the follow; unfollowing removes the
+ * runs of the author from the timeline.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see FeedEntry
+ */
+@Service
+public class FeedService {
+
+    private static final Comparator<FeedPosition> NEWEST_FIRST = Comparator.comparing(FeedPosition::getRunDate)
+            .thenComparingLong(FeedPosition::getRunId).reversed();
+
+    private final Logger logger = LoggerFactory.getLogger(FeedService.class);
+    private final FeedEntryRepository feedEntryRepository;
+    private final RunRepository runRepository;
+    private final UserStatsService userStatsService;
+    private final JdbcTemplate jdbcTemplate;
+    private final String schema;
+    private final long maxFollowers;
+    private final int timelineSize;
+
+    /**
+     * Constructor for the FeedService class.
+     *
+     * @param feedEntryRepository The repository of the timelines.
+     * @param runRepository       The repository for accessing runs.
+     * @param userStatsService    The service providing the follower counts of authors.
+     * @param jdbcTemplate        The JdbcTemplate used to clean up the timelines after batch unfollows.
+     * @param schema              The database schema of the application tables.
+     * @param maxFollowers        The largest number of followers a run is fanned out to on write.
+     * @param timelineSize        The number of entries kept per timeline.
+     */
+    @Autowired
+    public FeedService(FeedEntryRepository feedEntryRepository, RunRepository runRepository,
+                       UserStatsService userStatsService, JdbcTemplate jdbcTemplate,
+                       @Value("${spring.jpa.properties.hibernate.default_schema}") String schema,
+                       @Value("${feed.fan-out.max-followers:5000}") long maxFollowers,
+                       @Value("${feed.timeline.max-size:500}") int timelineSize) {
+        this.feedEntryRepository = feedEntryRepository;
+        this.runRepository = runRepository;
+        this.userStatsService = userStatsService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.schema = schema;
+        this.maxFollowers = maxFollowers;
+        this.timelineSize = timelineSize;
+    }
+
+    /**
+     * Adds a new or newly confirmed run to the timelines of the followers of its author, unless the author has
+     * too many followers.
+     *
+     * @param run The run.
+     */
+    public void onRunPublished(Run run) {
+        if (run.getUser() == null || run.getDate() == null) {
+            return;
+        }
+        long authorId = run.getUser().getUserId();
+        if (userStatsService.getFollowerCount(authorId) <= maxFollowers) {
+            feedEntryRepository.fanOut(authorId, run.getRunId(), run.getDate());
+        }
+    }
+
+    /**
+     * Removes deleted runs from all timelines.
+     *
+     * @param runIds The IDs of the deleted runs.
+     */
+    public void onRunsDeleted(Collection<Long> runIds) {
+        if (!runIds.isEmpty()) {
+            feedEntryRepository.deleteByRunIds(runIds);
+        }
+    }
+
+    /**
+     * Removes the runs of an unfollowed user from the timeline of its former follower.
+     *
+     * @param followerId  The ID of the user who unfollowed.
+     * @param followingId The ID of the unfollowed user.
+     */
+    public void onUnfollow(long followerId, long followingId) {
+        feedEntryRepository.deleteByFollowerAndAuthor(followerId, followingId);
+    }
+
+    /**
+     * Removes the runs of many unfollowed users from the timelines of their former followers with one JDBC batch.
+     *
+     * @param follows The removed follows, as pairs of the ID of the user who unfollowed and of the unfollowed user.
+     */
+    public void onUnfollows(List<Object[]> follows) {
+        if (!follows.isEmpty()) {
+            jdbcTemplate.batchUpdate("delete from " + schema + ".feed_entry where follower_id = ? and author_id = ?",
+                    follows);
+        }
+    }
+
+    /**
+     * Trims every timeline to its newest entries.
+     */
+    @Scheduled(fixedDelayString = "${feed.timeline.trim-interval:PT10M}")
+    @Transactional
+    public void trimTimelines() {
+        int removed = feedEntryRepository.trim(timelineSize);
+        if (removed > 0) {
+            logger.info("Feed timelines trimmed, " + removed + " entries removed");
+        }
+    }
+
+    /**
+     * Retrieves a page of the feed of a user.
+     *
+     * <p>The page is merged from the timeline of the user and the runs of the followed authors that are not fanned
+     * out, and only then are the runs of the page loaded, with their users, games and platforms.</p>
+     *
+     * @param userId The ID of the user whose feed is read.
+     * @param viewer The authenticated user; only the user itself and administrators can read a feed.
+     * @param cursor The continuation token returned with the previous page, or null for the first page.
+     * @param limit  The requested page size, or null for the default page size.
+     * @return The page of runs, newest first.
+     * @throws AccessDeniedException    If the viewer is neither the user nor an administrator.
+     * @throws IllegalArgumentException If the cursor or the page size is invalid.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Run> getFeed(long userId, User viewer, String cursor, Integer limit) {
+        if (viewer.getUserId() != userId && viewer.getRole() != ADMIN) {
+            throw new AccessDeniedException("You are not allowed to read this feed");
+        }
+        int pageSize = CursorPage.normalizeLimit(limit);
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        FeedPosition after = cursor == null ? null : parseCursor(cursor);
+
+        List<FeedPosition> positions = new ArrayList<>(after == null
+                ? feedEntryRepository.findFirstPage(userId, page)
+                : feedEntryRepository.findPageAfter(userId, after.getRunDate(), after.getRunId(), page));
+        List<Long> authorsNotFannedOut = feedEntryRepository.findFollowedAuthorsOver(userId, maxFollowers);
+        if (!authorsNotFannedOut.isEmpty()) {
+            positions.addAll(after == null
+                    ? feedEntryRepository.findRunsOfAuthors(authorsNotFannedOut, page)
+                    : feedEntryRepository.findRunsOfAuthorsAfter(authorsNotFannedOut, after.getRunDate(), after.getRunId(), page));
+            positions.sort(NEWEST_FIRST);
+            Set<Long> seen = new HashSet<>();
+            positions.removeIf(position -> !seen.add(position.getRunId()));
+        }
+
+        CursorPage<FeedPosition> positionPage = CursorPage.of(positions, pageSize, FeedService::cursorOf);
+        List<Long> runIds = positionPage.getItems().stream().map(FeedPosition::getRunId).toList();
+        Map<Long, Run> runsById = new HashMap<>();
+        runRepository.findDetailsByRunIdIn(runIds).forEach(run -> runsById.put(run.getRunId(), run));
+        List<Run> runs = new ArrayList<>(runIds.size());
+        for (Long runId : runIds) {
+            Run run = runsById.get(runId);
+            if (run != null) {
+                runs.add(run);
+            }
+        }
+        return new CursorPage<>(runs, positionPage.getNextCursor());
+    }
+
+    private static String cursorOf(FeedPosition position) {
+        return CursorCodec.encode(position.getRunDate().toString(), String.valueOf(position.getRunId()));
+    }
+
+    private static FeedPosition parseCursor(String cursor) {
+        String[] parts = CursorCodec.decode(cursor, 2);
+        try {
+            return new FeedPosition(Long.parseLong(parts[1]), LocalDateTime.parse(parts[0]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
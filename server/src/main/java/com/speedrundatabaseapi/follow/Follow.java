@@ -24,7 +24,12 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "follow",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"follower_id", "following_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"follower_id", "following_id"}),
+        indexes = {
+                @Index(name = "follow_following_idx", columnList = "following_id, follower_id"),
+                @Index(name = "follow_follower_time_idx", columnList = "follower_id, follow_time, following_id"),
+                @Index(name = "follow_following_time_idx", columnList = "following_id, follow_time, follower_id")
+        })
 @JsonSerialize(using = FollowCustomSerializer.class)
 public class Follow {
 
@@ -0,0 +1,43 @@
+package com.speedrundatabaseapi.follow;
+
+/**
+ * Outcome of a single follow within a batch follow or unfollow request.
+ *
+ * <p>Outcomes are returned in the order of the follows in the request.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see FollowService#followUsers(FollowBatchRequest, com.speedrundatabaseapi.user.User)
+ * @see FollowService#unfollowUsers(FollowBatchRequest, com.speedrundatabaseapi.user.User)
+ */
+public class FollowBatchOutcome {
+
+    private final long followerId;
+    private final long followingId;
+    private final FollowBatchStatus status;
+
+    /**
+     * Parameterized constructor for the FollowBatchOutcome class.
+     *
+     * @param followerId  The ID of the following user.
+     * @param followingId The ID of the followed user.
+     * @param status      What happened to the follow.
+     */
+    public FollowBatchOutcome(long followerId, long followingId, FollowBatchStatus status) {
+        this.followerId = followerId;
+        this.followingId = followingId;
+        this.status = status;
+    }
+
+    public long getFollowerId() {
+        return followerId;
+    }
+
+    public long getFollowingId() {
+        return followingId;
+    }
+
+    public FollowBatchStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,42 @@
+package com.speedrundatabaseapi.follow;
+
+import java.util.List;
+
+/**
+ * Request body for following or unfollowing many users at once.
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see FollowService#followUsers(FollowBatchRequest, com.speedrundatabaseapi.user.User)
+ * @see FollowService#unfollowUsers(FollowBatchRequest, com.speedrundatabaseapi.user.User)
+ */
+public class FollowBatchRequest {
+
+    /** The maximum number of follows changed by one request. */
+    public static final int MAX_FOLLOWS = 1000;
+
+    private List<FollowRequest> follows;
+
+    /**
+     * Default constructor for the FollowBatchRequest class.
+     */
+    public FollowBatchRequest() {
+    }
+
+    /**
+     * Parameterized constructor for the FollowBatchRequest class.
+     *
+     * @param follows The follower and following user IDs of the follows to change.
+     */
+    public FollowBatchRequest(List<FollowRequest> follows) {
+        this.follows = follows;
+    }
+
+    public List<FollowRequest> getFollows() {
+        return follows;
+    }
+
+    public void setFollows(List<FollowRequest> follows) {
+        this.follows = follows;
+    }
+}
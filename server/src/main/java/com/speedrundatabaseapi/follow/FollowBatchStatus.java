@@ -0,0 +1,32 @@
+package com.speedrundatabaseapi.follow;
+
+/**
+ * Outcomes of a single follow within a batch follow or unfollow request.
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see FollowBatchOutcome
+ */
+public enum FollowBatchStatus {
+
+    /** The follow was created. */
+    FOLLOWED,
+
+    /** The follow already existed, so nothing changed. */
+    ALREADY_FOLLOWING,
+
+    /** The follow was deleted. */
+    UNFOLLOWED,
+
+    /** The follow did not exist, so nothing changed. */
+    NOT_FOLLOWING,
+
+    /** The follower or the followed user does not exist. */
+    USER_NOT_FOUND,
+
+    /** The follower tried to follow themselves. */
+    SELF_FOLLOW,
+
+    /** The follow belongs to another user than the one making the request, who is not an administrator. */
+    FORBIDDEN
+}
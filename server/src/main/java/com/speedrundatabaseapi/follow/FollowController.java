@@ -1,5 +1,7 @@
 package com.speedrundatabaseapi.follow;
 
+import com.speedrundatabaseapi.pagination.CursorPage;
+import com.speedrundatabaseapi.user.User;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -7,6 +9,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -29,16 +33,19 @@ import java.util.Set;
 public class FollowController {
 
     private final FollowService followService;
+    private final FollowSuggestionService followSuggestionService;
     private final Logger logger = LoggerFactory.getLogger(FollowController.class);
 
     /**
      * Constructor for the FollowController class.
      *
-     * @param followService The FollowService used for handling follow-related operations.
+     * @param followService           The FollowService used for handling follow-related operations.
+     * @param followSuggestionService The FollowSuggestionService used for suggesting users to follow.
      */
     @Autowired
-    public FollowController(FollowService followService) {
+    public FollowController(FollowService followService, FollowSuggestionService followSuggestionService) {
         this.followService = followService;
+        this.followSuggestionService = followSuggestionService;
     }
 
     /**
@@ -79,6 +86,54 @@ public class FollowController {
         }
     }
 
+    /**
+     * Endpoint to follow many users at once.
+     *
+     * @param request The request body containing the follower and following IDs of every follow.
+     * @param viewer  The authenticated user, who can only change its own follows unless it is an administrator.
+     * @return ResponseEntity containing the outcome of every follow or an error message.
+     */
+    @PostMapping(path = "/batch")
+    public ResponseEntity<?> followUsers(@RequestBody FollowBatchRequest request,
+                                         @AuthenticationPrincipal User viewer) {
+        try {
+            List<FollowBatchOutcome> outcomes = followService.followUsers(request, viewer);
+            logger.info("Batch of " + outcomes.size() + " follows processed successfully");
+            return ResponseEntity.ok(outcomes);
+        } catch (IllegalArgumentException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error occurred while following users");
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error occurred while following users");
+        }
+    }
+
+    /**
+     * Endpoint to unfollow many users at once.
+     *
+     * @param request The request body containing the follower and following IDs of every follow.
+     * @param viewer  The authenticated user, who can only change its own follows unless it is an administrator.
+     * @return ResponseEntity containing the outcome of every unfollow or an error message.
+     */
+    @PostMapping(path = "/batch/unfollow")
+    public ResponseEntity<?> unfollowUsers(@RequestBody FollowBatchRequest request,
+                                           @AuthenticationPrincipal User viewer) {
+        try {
+            List<FollowBatchOutcome> outcomes = followService.unfollowUsers(request, viewer);
+            logger.info("Batch of " + outcomes.size() + " unfollows processed successfully");
+            return ResponseEntity.ok(outcomes);
+        } catch (IllegalArgumentException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error occurred while unfollowing users");
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error occurred while unfollowing users");
+        }
+    }
+
     /**
      * Endpoint to get the users followed by a specific user.
      *
@@ -101,6 +156,190 @@ public class FollowController {
         }
     }
 
+    /**
+     * Endpoint to get a page of the users followed by a specific user, newest follows first.
+     *
+     * @param followerId The ID of the follower user.
+     * @param cursor     The continuation token returned with the previous page.
+     * @param limit      The page size.
+     * @return ResponseEntity containing a page of follows of the specified user.
+     */
+    @GetMapping(path = "/{followerId}/following/page")
+    public ResponseEntity<?> getFollowingPage(
+            @PathVariable long followerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        try {
+            CursorPage<FollowSummary> page = followService.getFollowingPage(followerId, cursor, limit);
+            logger.info("Successfully fetched page of users followed by user with id " + followerId);
+            return ResponseEntity.ok(page);
+        } catch (EntityNotFoundException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error occurred while fetching page of users followed by user with id " + followerId);
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error occurred while fetching page of users followed by user with id " + followerId);
+        }
+    }
+
+    /**
+     * Endpoint to get the followers of a specific user.
+     *
+     * @param userId The ID of the followed user.
+     * @return ResponseEntity containing a Set of Follow entities representing the followers of the specified user.
+     */
+    @GetMapping(path = "/{userId}/followers")
+    public ResponseEntity<?> getFollowersOf(@PathVariable Long userId) {
+        try {
+            Set<Follow> follows = followService.getFollowersOf(userId);
+            logger.info("Successfully fetched followers of user with id " + userId);
+            return ResponseEntity.ok(follows);
+        } catch (EntityNotFoundException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error occurred while fetching followers of user with id " + userId);
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error occurred while fetching followers of user with id " + userId);
+        }
+    }
+
+    /**
+     * Endpoint to get a page of the followers of a specific user, newest follows first.
+     *
+     * @param userId The ID of the followed user.
+     * @param cursor The continuation token returned with the previous page.
+     * @param limit  The page size.
+     * @return ResponseEntity containing a page of follows of the followers of the specified user.
+     */
+    @GetMapping(path = "/{userId}/followers/page")
+    public ResponseEntity<?> getFollowersPage(
+            @PathVariable long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        try {
+            CursorPage<FollowSummary> page = followService.getFollowersPage(userId, cursor, limit);
+            logger.info("Successfully fetched page of followers of user with id " + userId);
+            return ResponseEntity.ok(page);
+        } catch (EntityNotFoundException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error occurred while fetching page of followers of user with id " + userId);
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error occurred while fetching page of followers of user with id " + userId);
+        }
+    }
+
+    /**
+     * Endpoint to get the IDs of the users followed by a specific user.
+     *
+     * @param userId The ID of the user.
+     * @return ResponseEntity containing the sorted IDs of the followed users.
+     */
+    @GetMapping(path = "/{userId}/following-ids")
+    public ResponseEntity<?> getFollowingIds(@PathVariable long userId) {
+        try {
+            return ResponseEntity.ok(followService.getFollowingIds(userId));
+        } catch (Exception e) {
+            logger.error("Error occurred while fetching ids of users followed by user with id " + userId);
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error occurred while fetching ids of users followed by user with id " + userId);
+        }
+    }
+
+    /**
+     * Endpoint to get the IDs of the followers of a specific user.
+     *
+     * @param userId The ID of the user.
+     * @return ResponseEntity containing the sorted IDs of the followers.
+     */
+    @GetMapping(path = "/{userId}/follower-ids")
+    public ResponseEntity<?> getFollowerIds(@PathVariable long userId) {
+        try {
+            return ResponseEntity.ok(followService.getFollowerIds(userId));
+        } catch (Exception e) {
+            logger.error("Error occurred while fetching ids of followers of user with id " + userId);
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error occurred while fetching ids of followers of user with id " + userId);
+        }
+    }
+
+    /**
+     * Endpoint to get the IDs of the users who follow a specific user and are followed by it.
+     *
+     * @param userId The ID of the user.
+     * @return ResponseEntity containing the sorted IDs of the mutual follows.
+     */
+    @GetMapping(path = "/{userId}/mutual-ids")
+    public ResponseEntity<?> getMutualFollowIds(@PathVariable long userId) {
+        try {
+            return ResponseEntity.ok(followService.getMutualFollowIds(userId));
+        } catch (Exception e) {
+            logger.error("Error occurred while fetching ids of mutual follows of user with id " + userId);
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error occurred while fetching ids of mutual follows of user with id " + userId);
+        }
+    }
+
+    /**
+     * Endpoint to get the users suggested to be followed by a specific user.
+     *
+     * @param userId The ID of the user.
+     * @param limit  The maximum number of suggestions.
+     * @param viewer The authenticated user.
+     * @return ResponseEntity containing the suggestions, best first.
+     */
+    @GetMapping(path = "/{userId}/suggestions")
+    public ResponseEntity<?> getSuggestions(
+            @PathVariable long userId,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal User viewer
+    ) {
+        try {
+            List<FollowSuggestion> suggestions = followSuggestionService.getSuggestions(userId, viewer, limit);
+            logger.info("Successfully fetched follow suggestions for user with id " + userId);
+            return ResponseEntity.ok(suggestions);
+        } catch (AccessDeniedException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error occurred while fetching follow suggestions for user with id " + userId);
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error occurred while fetching follow suggestions for user with id " + userId);
+        }
+    }
+
+    /**
+     * Endpoint to check whether a user follows another one.
+     *
+     * @param followerId  The ID of the possibly following user.
+     * @param followingId The ID of the possibly followed user.
+     * @return ResponseEntity containing true if the first user follows the second.
+     */
+    @GetMapping("/{followerId}/following/{followingId}")
+    public ResponseEntity<?> isFollowing(@PathVariable long followerId, @PathVariable long followingId) {
+        try {
+            return ResponseEntity.ok(followService.isFollowing(followerId, followingId));
+        } catch (Exception e) {
+            logger.error("Error occurred while checking whether user with id " + followerId + " follows user with id " + followingId);
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error occurred while checking follow");
+        }
+    }
+
     /**
      * Endpoint to unfollow a user.
      *
@@ -0,0 +1,284 @@
+package com.speedrundatabaseapi.follow;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of the follow graph.
+ *
+ * <p>For every user, the IDs of the users it follows and the IDs of its followers are held as sorted primitive
+ * {@code long} arrays, so the following and followers lists, mutual follows and "does A follow B" are answered
+ * without Hibernate or a database query: a lookup is one hash map access followed by an array copy, a binary
+ * search or a linear merge of two arrays.</p>
+ *
+ * <p>The index is built from the follow table when the application starts. The arrays are never modified; a
+ * follow or unfollow replaces the two affected arrays after its transaction commits, so readers never need a lock.
+ * Changes committed while the index is being built are replayed on the new index once it is complete.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see FollowService
+ */
+@Component
+public class FollowGraph {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final Logger logger = LoggerFactory.getLogger(FollowGraph.class);
+    private final JdbcTemplate jdbcTemplate;
+    private final String schema;
+    private volatile Map<Long, long[]> followingByUser = new ConcurrentHashMap<>();
+    private volatile Map<Long, long[]> followersByUser = new ConcurrentHashMap<>();
+    private List<Change> changesDuringBuild;
+
+    /**
+     * Constructor for the FollowGraph class.
+     *
+     * @param jdbcTemplate The JdbcTemplate used to read the follow table.
+     * @param schema       The database schema of the application tables.
+     */
+    @Autowired
+    public FollowGraph(JdbcTemplate jdbcTemplate,
+                       @Value("${spring.jpa.properties.hibernate.default_schema}") String schema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.schema = schema;
+    }
+
+    /**
+     * Builds the index from the follow table when the application starts.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        synchronized (this) {
+            changesDuringBuild = new ArrayList<>();
+        }
+        LongList followerIds = new LongList();
+        LongList followingIds = new LongList();
+        jdbcTemplate.query("select follower_id, following_id from " + schema + ".follow", resultSet -> {
+            followerIds.add(resultSet.getLong(1));
+            followingIds.add(resultSet.getLong(2));
+        });
+        Map<Long, long[]> following = group(followerIds, followingIds);
+        Map<Long, long[]> followers = group(followingIds, followerIds);
+        synchronized (this) {
+            followingByUser = following;
+            followersByUser = followers;
+            List<Change> changes = changesDuringBuild;
+            changesDuringBuild = null;
+            changes.forEach(this::apply);
+        }
+        logger.info("Follow graph built, " + followerIds.size + " follows");
+    }
+
+    /**
+     * Gets the IDs of the users followed by a user.
+     *
+     * @param userId The ID of the user.
+     * @return The sorted IDs of the followed users.
+     */
+    public long[] getFollowing(long userId) {
+        return followingByUser.getOrDefault(userId, EMPTY).clone();
+    }
+
+    /**
+     * Gets the IDs of the users followed by a user without copying them. The returned array must not be modified.
+     *
+     * @param userId The ID of the user.
+     * @return The sorted IDs of the followed users.
+     */
+    long[] following(long userId) {
+        return followingByUser.getOrDefault(userId, EMPTY);
+    }
+
+    /**
+     * Gets the IDs of the followers of a user.
+     *
+     * @param userId The ID of the user.
+     * @return The sorted IDs of the followers.
+     */
+    public long[] getFollowers(long userId) {
+        return followersByUser.getOrDefault(userId, EMPTY).clone();
+    }
+
+    /**
+     * Gets the IDs of the users who follow a user and are followed by it.
+     *
+     * @param userId The ID of the user.
+     * @return The sorted IDs of the mutual follows.
+     */
+    public long[] getMutual(long userId) {
+        long[] following = followingByUser.getOrDefault(userId, EMPTY);
+        long[] followers = followersByUser.getOrDefault(userId, EMPTY);
+        long[] mutual = new long[Math.min(following.length, followers.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < following.length && j < followers.length) {
+            if (following[i] < followers[j]) {
+                i++;
+            } else if (following[i] > followers[j]) {
+                j++;
+            } else {
+                mutual[size++] = following[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(mutual, size);
+    }
+
+    /**
+     * Checks whether a user follows another one.
+     *
+     * @param followerId  The ID of the possibly following user.
+     * @param followingId The ID of the possibly followed user.
+     * @return True if the first user follows the second.
+     */
+    public boolean isFollowing(long followerId, long followingId) {
+        return Arrays.binarySearch(followingByUser.getOrDefault(followerId, EMPTY), followingId) >= 0;
+    }
+
+    /**
+     * Gets the number of users followed by a user.
+     *
+     * @param userId The ID of the user.
+     * @return The number of followed users.
+     */
+    public int getFollowingCount(long userId) {
+        return followingByUser.getOrDefault(userId, EMPTY).length;
+    }
+
+    /**
+     * Adds a follow to the index once the current transaction, if any, commits.
+     *
+     * @param followerId  The ID of the following user.
+     * @param followingId The ID of the followed user.
+     */
+    public void onFollowed(long followerId, long followingId) {
+        afterCommit(new Change(followerId, followingId, true));
+    }
+
+    /**
+     * Removes a follow from the index once the current transaction, if any, commits.
+     *
+     * @param followerId  The ID of the user who unfollowed.
+     * @param followingId The ID of the unfollowed user.
+     */
+    public void onUnfollowed(long followerId, long followingId) {
+        afterCommit(new Change(followerId, followingId, false));
+    }
+
+    private void afterCommit(Change change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private synchronized void apply(Change change) {
+        if (change.added) {
+            followingByUser.compute(change.followerId, (id, ids) -> insert(ids, change.followingId));
+            followersByUser.compute(change.followingId, (id, ids) -> insert(ids, change.followerId));
+        } else {
+            followingByUser.computeIfPresent(change.followerId, (id, ids) -> remove(ids, change.followingId));
+            followersByUser.computeIfPresent(change.followingId, (id, ids) -> remove(ids, change.followerId));
+        }
+        if (changesDuringBuild != null) {
+            changesDuringBuild.add(change);
+        }
+    }
+
+    private static long[] insert(long[] ids, long id) {
+        if (ids == null) {
+            return new long[]{id};
+        }
+        int position = Arrays.binarySearch(ids, id);
+        if (position >= 0) {
+            return ids;
+        }
+        position = -position - 1;
+        long[] result = new long[ids.length + 1];
+        System.arraycopy(ids, 0, result, 0, position);
+        result[position] = id;
+        System.arraycopy(ids, position, result, position + 1, ids.length - position);
+        return result;
+    }
+
+    private static long[] remove(long[] ids, long id) {
+        int position = Arrays.binarySearch(ids, id);
+        if (position < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return null;
+        }
+        long[] result = new long[ids.length - 1];
+        System.arraycopy(ids, 0, result, 0, position);
+        System.arraycopy(ids, position + 1, result, position, ids.length - position - 1);
+        return result;
+    }
+
+    private static Map<Long, long[]> group(LongList keys, LongList values) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (int i = 0; i < keys.size; i++) {
+            counts.merge(keys.values[i], 1, Integer::sum);
+        }
+        Map<Long, long[]> grouped = new ConcurrentHashMap<>(Math.max(16, counts.size() * 4 / 3 + 1));
+        counts.forEach((key, count) -> grouped.put(key, new long[count]));
+        Map<Long, Integer> filled = new HashMap<>();
+        for (int i = 0; i < keys.size; i++) {
+            long key = keys.values[i];
+            int position = filled.merge(key, 1, Integer::sum) - 1;
+            grouped.get(key)[position] = values.values[i];
+        }
+        grouped.values().forEach(Arrays::sort);
+        return grouped;
+    }
+
+    private static final class Change {
+
+        private final long followerId;
+        private final long followingId;
+        private final boolean added;
+
+        private Change(long followerId, long followingId, boolean added) {
+            this.followerId = followerId;
+            this.followingId = followingId;
+            this.added = added;
+        }
+    }
+
+    private static final class LongList {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
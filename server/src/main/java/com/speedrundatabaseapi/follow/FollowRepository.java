@@ -1,8 +1,15 @@
 package com.speedrundatabaseapi.follow;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * Repository interface for managing Follow entities.
  *
@@ -21,4 +28,86 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
      * @param followKey The composite key representing the follow relationship.
      */
     void deleteById(FollowKey followKey);
+
+    /**
+     * Creates a follow relationship unless it already exists.
+     *
+     * @param followerId  The ID of the following user.
+     * @param followingId The ID of the followed user.
+     * @param followTime  The time of the follow.
+     * @return 1 if the follow was created, 0 if it already existed.
+     */
+    @Modifying
+    @Query(value = "insert into {h-schema}follow (follower_id, following_id, follow_time) " +
+            "values (:followerId, :followingId, :followTime) on conflict (follower_id, following_id) do nothing",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("followerId") long followerId, @Param("followingId") long followingId,
+                       @Param("followTime") LocalDateTime followTime);
+
+    /**
+     * Deletes a follow relationship.
+     *
+     * @param followerId  The ID of the following user.
+     * @param followingId The ID of the followed user.
+     * @return 1 if the follow was deleted, 0 if it did not exist.
+     */
+    @Modifying
+    @Query("delete from Follow f where f.id.followerId = :followerId and f.id.followingId = :followingId")
+    int deleteFollow(@Param("followerId") long followerId, @Param("followingId") long followingId);
+
+    /**
+     * Retrieves the first page of the follows of a user, newest first.
+     *
+     * @param followerId The ID of the following user.
+     * @param pageable   The size of the page.
+     * @return The summaries of the follows.
+     */
+    @Query("select new com.speedrundatabaseapi.follow.FollowSummary(f.id.followerId, f.id.followingId, f.followTime) from Follow f " +
+            "where f.id.followerId = :followerId order by f.followTime desc, f.id.followingId desc")
+    List<FollowSummary> findFollowingFirstPage(@Param("followerId") long followerId, Pageable pageable);
+
+    /**
+     * Retrieves the page of the follows of a user following the given position, newest first.
+     *
+     * @param followerId  The ID of the following user.
+     * @param followTime  The follow time of the last follow on the previous page.
+     * @param followingId The ID of the followed user of the last follow on the previous page.
+     * @param pageable    The size of the page.
+     * @return The summaries of the follows.
+     */
+    @Query("select new com.speedrundatabaseapi.follow.FollowSummary(f.id.followerId, f.id.followingId, f.followTime) from Follow f " +
+            "where f.id.followerId = :followerId " +
+            "and (f.followTime < :followTime or (f.followTime = :followTime and f.id.followingId < :followingId)) " +
+            "order by f.followTime desc, f.id.followingId desc")
+    List<FollowSummary> findFollowingPageAfter(@Param("followerId") long followerId,
+                                               @Param("followTime") LocalDateTime followTime,
+                                               @Param("followingId") long followingId, Pageable pageable);
+
+    /**
+     * Retrieves the first page of the followers of a user, newest first.
+     *
+     * @param followingId The ID of the followed user.
+     * @param pageable    The size of the page.
+     * @return The summaries of the follows.
+     */
+    @Query("select new com.speedrundatabaseapi.follow.FollowSummary(f.id.followerId, f.id.followingId, f.followTime) from Follow f " +
+            "where f.id.followingId = :followingId order by f.followTime desc, f.id.followerId desc")
+    List<FollowSummary> findFollowersFirstPage(@Param("followingId") long followingId, Pageable pageable);
+
+    /**
+     * Retrieves the page of the followers of a user following the given position, newest first.
+     *
+     * @param followingId The ID of the followed user.
+     * @param followTime  The follow time of the last follow on the previous page.
+     * @param followerId  The ID of the follower of the last follow on the previous page.
+     * @param pageable    The size of the page.
+     * @return The summaries of the follows.
+     */
+    @Query("select new com.speedrundatabaseapi.follow.FollowSummary(f.id.followerId, f.id.followingId, f.followTime) from Follow f " +
+            "where f.id.followingId = :followingId " +
+            "and (f.followTime < :followTime or (f.followTime = :followTime and f.id.followerId < :followerId)) " +
+            "order by f.followTime desc, f.id.followerId desc")
+    List<FollowSummary> findFollowersPageAfter(@Param("followingId") long followingId,
+                                               @Param("followTime") LocalDateTime followTime,
+                                               @Param("followerId") long followerId, Pageable pageable);
 }
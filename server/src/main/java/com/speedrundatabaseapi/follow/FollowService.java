@@ -1,15 +1,32 @@
 package com.speedrundatabaseapi.follow;
 
+import com.speedrundatabaseapi.feed.FeedService;
+import com.speedrundatabaseapi.pagination.CursorCodec;
+import com.speedrundatabaseapi.pagination.CursorPage;
 import com.speedrundatabaseapi.user.User;
 import com.speedrundatabaseapi.user.UserRepository;
+import com.speedrundatabaseapi.user.UserStatsService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import static com.speedrundatabaseapi.user.UserRole.ADMIN;
+
 /**
  * Service class for managing user follows.
  *
@@ -25,17 +42,34 @@ public class FollowService {
 
     private final FollowRepository followRepository;
     private final UserRepository userRepository;
+    private final UserStatsService userStatsService;
+    private final FeedService feedService;
+    private final FollowGraph followGraph;
+    private final JdbcTemplate jdbcTemplate;
+    private final String schema;
 
     /**
      * Constructs a FollowService with the specified repositories.
      *
      * @param followRepository The repository for Follow entities.
      * @param userRepository   The repository for User entities.
+     * @param userStatsService The service maintaining the follower and following counts of users.
+     * @param feedService      The service maintaining the feeds of users.
+     * @param followGraph      The in-memory index of the follow graph.
+     * @param jdbcTemplate     The JdbcTemplate used for batched follows and unfollows.
+     * @param schema           The database schema of the application tables.
      */
     @Autowired
-    public FollowService(FollowRepository followRepository, UserRepository userRepository) {
+    public FollowService(FollowRepository followRepository, UserRepository userRepository, UserStatsService userStatsService,
+                         FeedService feedService, FollowGraph followGraph, JdbcTemplate jdbcTemplate,
+                         @Value("${spring.jpa.properties.hibernate.default_schema}") String schema) {
         this.followRepository = followRepository;
         this.userRepository = userRepository;
+        this.userStatsService = userStatsService;
+        this.feedService = feedService;
+        this.followGraph = followGraph;
+        this.jdbcTemplate = jdbcTemplate;
+        this.schema = schema;
     }
 
     /**
@@ -48,13 +82,14 @@ public class FollowService {
     }
 
     /**
-     * Follows a user.
+     * Follows a user. Following an already followed user changes nothing.
      *
      * @param followerId  The ID of the user initiating the follow.
      * @param followingId The ID of the user being followed.
      * @throws EntityNotFoundException If either the follower or following user is not found.
      * @throws IllegalArgumentException If the follower is attempting to follow themselves.
      */
+    @Transactional
     public void followUser(Long followerId, Long followingId) {
         User user1 = userRepository.findById(followerId).orElseThrow(() -> new EntityNotFoundException("User with id" +followerId+ " not found"));
         User user2 = userRepository.findById(followingId).orElseThrow(() -> new EntityNotFoundException("User with id" +followingId+ " not found"));
@@ -62,9 +97,159 @@ public class FollowService {
         if(user1.getUserId() == user2.getUserId()){
             throw new IllegalArgumentException("You can`t follow yourself");
         }
-        FollowKey followKey = new FollowKey(followerId, followingId);
+        if (followRepository.insertIfAbsent(followerId, followingId, LocalDateTime.now()) == 1) {
+            userStatsService.onFollowChanged(followerId, followingId, 1);
+            followGraph.onFollowed(followerId, followingId);
+        }
+    }
+
+    /**
+     * Follows many users at once.
+     *
+     * <p>The users of all follows are checked with a single query and the follows are inserted with one JDBC
+     * batch, ignoring those that already exist, and the follow counts are updated with another batch. Follows are
+     * written in the order of user IDs, so concurrent batches cannot deadlock. Users can only create their own follows, unless they are administrators.</p>
+     *
+     * @param request The follows to create.
+     * @param viewer  The authenticated user making the request.
+     * @return The outcome of every follow, in the order of the request.
+     * @throws IllegalArgumentException If the request is empty, too large or has a follow without user IDs.
+     */
+    @Transactional
+    public List<FollowBatchOutcome> followUsers(FollowBatchRequest request, User viewer) {
+        List<FollowRequest> follows = validate(request);
+        FollowBatchStatus[] statuses = new FollowBatchStatus[follows.size()];
+        List<Integer> writes = resolveUsers(follows, statuses, viewer, true);
+        Timestamp followTime = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(writes.size());
+        for (int index : writes) {
+            rows.add(new Object[]{follows.get(index).getFollowerId(), follows.get(index).getFollowingId(), followTime});
+        }
+        int[] counts = jdbcTemplate.batchUpdate("insert into " + schema + ".follow (follower_id, following_id, follow_time) " +
+                "values (?, ?, ?) on conflict (follower_id, following_id) do nothing", rows);
+
+        Map<Long, Long> followersByUser = new HashMap<>();
+        Map<Long, Long> followingByUser = new HashMap<>();
+        for (int i = 0; i < writes.size(); i++) {
+            int index = writes.get(i);
+            FollowRequest follow = follows.get(index);
+            if (counts[i] == 1) {
+                statuses[index] = FollowBatchStatus.FOLLOWED;
+                followingByUser.merge(follow.getFollowerId(), 1L, Long::sum);
+                followersByUser.merge(follow.getFollowingId(), 1L, Long::sum);
+                followGraph.onFollowed(follow.getFollowerId(), follow.getFollowingId());
+            } else {
+                statuses[index] = FollowBatchStatus.ALREADY_FOLLOWING;
+            }
+        }
+        userStatsService.onFollowsChanged(followersByUser, followingByUser);
+        return outcomes(follows, statuses);
+    }
+
+    /**
+     * Unfollows many users at once.
+     *
+     * <p>The users of all follows are checked with a single query and the follows, the runs of the unfollowed
+     * users in the feeds and the follow counts are each written with one JDBC batch, in the order of user IDs. Users can only delete their own follows, unless they are administrators.</p>
+     *
+     * @param request The follows to delete.
+     * @param viewer  The authenticated user making the request.
+     * @return The outcome of every follow, in the order of the request.
+     * @throws IllegalArgumentException If the request is empty, too large or has a follow without user IDs.
+     */
+    @Transactional
+    public List<FollowBatchOutcome> unfollowUsers(FollowBatchRequest request, User viewer) {
+        List<FollowRequest> follows = validate(request);
+        FollowBatchStatus[] statuses = new FollowBatchStatus[follows.size()];
+        List<Integer> writes = resolveUsers(follows, statuses, viewer, false);
+        List<Object[]> rows = new ArrayList<>(writes.size());
+        for (int index : writes) {
+            rows.add(new Object[]{follows.get(index).getFollowerId(), follows.get(index).getFollowingId()});
+        }
+        int[] counts = jdbcTemplate.batchUpdate("delete from " + schema + ".follow " +
+                "where follower_id = ? and following_id = ?", rows);
+
+        Map<Long, Long> followersByUser = new HashMap<>();
+        Map<Long, Long> followingByUser = new HashMap<>();
+        List<Object[]> unfollowed = new ArrayList<>(writes.size());
+        for (int i = 0; i < writes.size(); i++) {
+            int index = writes.get(i);
+            FollowRequest follow = follows.get(index);
+            if (counts[i] == 1) {
+                statuses[index] = FollowBatchStatus.UNFOLLOWED;
+                followingByUser.merge(follow.getFollowerId(), -1L, Long::sum);
+                followersByUser.merge(follow.getFollowingId(), -1L, Long::sum);
+                unfollowed.add(rows.get(i));
+                followGraph.onUnfollowed(follow.getFollowerId(), follow.getFollowingId());
+            } else {
+                statuses[index] = FollowBatchStatus.NOT_FOLLOWING;
+            }
+        }
+        feedService.onUnfollows(unfollowed);
+        userStatsService.onFollowsChanged(followersByUser, followingByUser);
+        return outcomes(follows, statuses);
+    }
+
+    private static List<FollowRequest> validate(FollowBatchRequest request) {
+        List<FollowRequest> follows = request.getFollows();
+        if (follows == null || follows.isEmpty()) {
+            throw new IllegalArgumentException("At least one follow is required");
+        }
+        if (follows.size() > FollowBatchRequest.MAX_FOLLOWS) {
+            throw new IllegalArgumentException("At most " + FollowBatchRequest.MAX_FOLLOWS + " follows can be changed at once");
+        }
+        for (FollowRequest follow : follows) {
+            if (follow == null || follow.getFollowerId() == null || follow.getFollowingId() == null) {
+                throw new IllegalArgumentException("Every follow needs a followerId and a followingId");
+            }
+        }
+        return follows;
+    }
+
+    /**
+     * Marks the follows of other users than the viewer (unless it is an administrator), of missing users and, when
+     * following, of users following themselves, and returns the indexes of the remaining follows, ordered by
+     * follower and following ID.
+     */
+    private List<Integer> resolveUsers(List<FollowRequest> follows, FollowBatchStatus[] statuses, User viewer,
+                                       boolean following) {
+        boolean admin = viewer.getRole() == ADMIN;
+        Set<Long> userIds = new HashSet<>();
+        for (int i = 0; i < follows.size(); i++) {
+            FollowRequest follow = follows.get(i);
+            if (!admin && follow.getFollowerId() != viewer.getUserId()) {
+                statuses[i] = FollowBatchStatus.FORBIDDEN;
+            } else {
+                userIds.add(follow.getFollowerId());
+                userIds.add(follow.getFollowingId());
+            }
+        }
+        Set<Long> existing = userIds.isEmpty() ? Set.of() : userRepository.findExistingUserIds(userIds);
+        List<Integer> writes = new ArrayList<>(follows.size());
+        for (int i = 0; i < follows.size(); i++) {
+            FollowRequest follow = follows.get(i);
+            if (statuses[i] == FollowBatchStatus.FORBIDDEN) {
+                continue;
+            }
+            if (!existing.contains(follow.getFollowerId()) || !existing.contains(follow.getFollowingId())) {
+                statuses[i] = FollowBatchStatus.USER_NOT_FOUND;
+            } else if (following && follow.getFollowerId().equals(follow.getFollowingId())) {
+                statuses[i] = FollowBatchStatus.SELF_FOLLOW;
+            } else {
+                writes.add(i);
+            }
+        }
+        writes.sort(Comparator.<Integer>comparingLong(i -> follows.get(i).getFollowerId())
+                .thenComparingLong(i -> follows.get(i).getFollowingId()));
+        return writes;
+    }
 
-        followRepository.save(new Follow(followKey, user1, user2));
+    private static List<FollowBatchOutcome> outcomes(List<FollowRequest> follows, FollowBatchStatus[] statuses) {
+        List<FollowBatchOutcome> outcomes = new ArrayList<>(follows.size());
+        for (int i = 0; i < follows.size(); i++) {
+            outcomes.add(new FollowBatchOutcome(follows.get(i).getFollowerId(), follows.get(i).getFollowingId(), statuses[i]));
+        }
+        return outcomes;
     }
 
     /**
@@ -80,6 +265,84 @@ public class FollowService {
         return follower.getFollowedByUser();
     }
 
+    /**
+     * Retrieves the set of follows of the followers of a specific user.
+     *
+     * @param followingId The ID of the user whose followers are to be retrieved.
+     * @return The set of follows of the users following the specified user.
+     * @throws EntityNotFoundException If the user with the given ID is not found.
+     */
+    public Set<Follow> getFollowersOf(Long followingId) {
+        User following = userRepository.findById(followingId)
+                .orElseThrow(() -> new EntityNotFoundException("User with id " + followingId + " not found"));
+        return following.getUsersFollowingUser();
+    }
+
+    /**
+     * Retrieves a page of the follows of a specific user, newest first.
+     *
+     * @param followerId The ID of the following user.
+     * @param cursor     The continuation token returned with the previous page, or null for the first page.
+     * @param limit      The requested page size, or null for the default page size.
+     * @return The page of follows.
+     * @throws EntityNotFoundException  If the user with the given ID is not found.
+     * @throws IllegalArgumentException If the cursor or the page size is invalid.
+     */
+    public CursorPage<FollowSummary> getFollowingPage(long followerId, String cursor, Integer limit) {
+        int pageSize = CursorPage.normalizeLimit(limit);
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        List<FollowSummary> follows;
+        if (cursor == null) {
+            checkUserExists(followerId);
+            follows = followRepository.findFollowingFirstPage(followerId, page);
+        } else {
+            Position after = parseCursor(cursor);
+            follows = followRepository.findFollowingPageAfter(followerId, after.followTime, after.userId, page);
+        }
+        return CursorPage.of(follows, pageSize,
+                follow -> CursorCodec.encode(follow.getFollowTime().toString(), String.valueOf(follow.getFollowingId())));
+    }
+
+    /**
+     * Retrieves a page of the followers of a specific user, newest first.
+     *
+     * @param followingId The ID of the followed user.
+     * @param cursor      The continuation token returned with the previous page, or null for the first page.
+     * @param limit       The requested page size, or null for the default page size.
+     * @return The page of follows.
+     * @throws EntityNotFoundException  If the user with the given ID is not found.
+     * @throws IllegalArgumentException If the cursor or the page size is invalid.
+     */
+    public CursorPage<FollowSummary> getFollowersPage(long followingId, String cursor, Integer limit) {
+        int pageSize = CursorPage.normalizeLimit(limit);
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        List<FollowSummary> follows;
+        if (cursor == null) {
+            checkUserExists(followingId);
+            follows = followRepository.findFollowersFirstPage(followingId, page);
+        } else {
+            Position after = parseCursor(cursor);
+            follows = followRepository.findFollowersPageAfter(followingId, after.followTime, after.userId, page);
+        }
+        return CursorPage.of(follows, pageSize,
+                follow -> CursorCodec.encode(follow.getFollowTime().toString(), String.valueOf(follow.getFollowerId())));
+    }
+
+    private void checkUserExists(long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("User with id " + userId + " not found");
+        }
+    }
+
+    private static Position parseCursor(String cursor) {
+        String[] parts = CursorCodec.decode(cursor, 2);
+        try {
+            return new Position(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
     /**
      * Deletes a follow relationship between two users.
      *
@@ -92,7 +355,65 @@ public class FollowService {
         userRepository.findById(followerId).orElseThrow(() -> new EntityNotFoundException("User with id " +followerId+ " not found"));
         userRepository.findById(followingId).orElseThrow(() -> new EntityNotFoundException("User with id " +followingId+ " not found"));
 
-        FollowKey followKey = new FollowKey(followerId, followingId);
-        followRepository.deleteById(followKey);
+        if (followRepository.deleteFollow(followerId, followingId) == 1) {
+            userStatsService.onFollowChanged(followerId, followingId, -1);
+            feedService.onUnfollow(followerId, followingId);
+            followGraph.onUnfollowed(followerId, followingId);
+        }
+    }
+
+    /**
+     * Retrieves the IDs of the users followed by a specific user from the follow graph index.
+     *
+     * @param userId The ID of the user.
+     * @return The sorted IDs of the followed users.
+     */
+    public long[] getFollowingIds(long userId) {
+        return followGraph.getFollowing(userId);
+    }
+
+    /**
+     * Retrieves the IDs of the followers of a specific user from the follow graph index.
+     *
+     * @param userId The ID of the user.
+     * @return The sorted IDs of the followers.
+     */
+    public long[] getFollowerIds(long userId) {
+        return followGraph.getFollowers(userId);
+    }
+
+    /**
+     * Retrieves the IDs of the users who follow a specific user and are followed by it, from the follow graph index.
+     *
+     * @param userId The ID of the user.
+     * @return The sorted IDs of the mutual follows.
+     */
+    public long[] getMutualFollowIds(long userId) {
+        return followGraph.getMutual(userId);
+    }
+
+    /**
+     * Checks in the follow graph index whether a user follows another one.
+     *
+     * @param followerId  The ID of the possibly following user.
+     * @param followingId The ID of the possibly followed user.
+     * @return True if the first user follows the second.
+     */
+    public boolean isFollowing(long followerId, long followingId) {
+        return followGraph.isFollowing(followerId, followingId);
+    }
+
+    /**
+     * Position of the last follow on a page: its follow time and the ID of the other user of the follow.
+     */
+    private static final class Position {
+
+        private final LocalDateTime followTime;
+        private final long userId;
+
+        private Position(LocalDateTime followTime, long userId) {
+            this.followTime = followTime;
+            this.userId = userId;
+        }
     }
 }
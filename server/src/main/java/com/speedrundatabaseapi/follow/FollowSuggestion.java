@@ -0,0 +1,80 @@
+package com.speedrundatabaseapi.follow;
+
+/**
+ * Represents a user suggested to be followed, with the reasons of the suggestion.
+ *
+ * <p>This class is designed to be used as a response body of the suggestions endpoint of the FollowController.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see FollowSuggestionService
+ */
+public class FollowSuggestion {
+    private final long userId;
+    private final String login;
+    private final int followedBy;
+    private final int sharedGames;
+    private final int score;
+
+    /**
+     * Parameterized constructor for FollowSuggestion.
+     *
+     * @param userId      The ID of the suggested user.
+     * @param login       The login username of the suggested user.
+     * @param followedBy  The number of users followed by the user asking who follow the suggested user.
+     * @param sharedGames The number of games both users have runs in.
+     * @param score       The score the suggestions are ordered by.
+     */
+    public FollowSuggestion(long userId, String login, int followedBy, int sharedGames, int score) {
+        this.userId = userId;
+        this.login = login;
+        this.followedBy = followedBy;
+        this.sharedGames = sharedGames;
+        this.score = score;
+    }
+
+    /**
+     * Getter for the ID of the suggested user.
+     *
+     * @return The user ID.
+     */
+    public long getUserId() {
+        return userId;
+    }
+
+    /**
+     * Getter for the login username of the suggested user.
+     *
+     * @return The login username.
+     */
+    public String getLogin() {
+        return login;
+    }
+
+    /**
+     * Getter for the number of followed users who follow the suggested user.
+     *
+     * @return The number of followed users.
+     */
+    public int getFollowedBy() {
+        return followedBy;
+    }
+
+    /**
+     * Getter for the number of shared games.
+     *
+     * @return The number of shared games.
+     */
+    public int getSharedGames() {
+        return sharedGames;
+    }
+
+    /**
+     * Getter for the score of the suggestion.
+     *
+     * @return The score.
+     */
+    public int getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,376 @@
+package com.speedrundatabaseapi.follow;
+
+import com.speedrundatabaseapi.pagination.CursorPage;
+import com.speedrundatabaseapi.run.RunRepository;
+import com.speedrundatabaseapi.user.User;
+import com.speedrundatabaseapi.user.UserRepository;
+import com.speedrundatabaseapi.user.UserSummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.speedrundatabaseapi.user.UserRole.ADMIN;
+
+/**
+ * Service suggesting users to follow.
+ *
+ * <p>Candidates come from two sources, computed in parallel: a two-hop traversal of the {@link FollowGraph}
+ * (users followed by the users the asking user follows), split over a dedicated {@link ForkJoinPool}, and users
+ * having runs in the same games, queried on a small bounded executor of its own so the blocking database call
+ * cannot starve the traversal. Both are bounded: at most {@code maxFollowed} followed users and at most
+ * {@code maxFollowedFollowing} of the users each of them follows are visited, evenly sampled when there are more,
+ * and at most {@code maxGameCandidates} users sharing the most games are considered. A candidate scores two points
+ * for every followed user following it and one point for every shared game.</p>
+ *
+ * <p>The computation has a time budget. The shared games query runs with a database statement timeout set to
+ * the remaining budget, so a query that is too slow is cancelled and frees its connection. When the budget runs
+ * out, or the query executor is saturated, the suggestions found so far are returned but not cached, and the
+ * {@code follow.suggestions.truncated} counter is incremented. Complete suggestions are cached per user until
+ * they expire; users followed in the meantime are filtered out when the cached suggestions are read.
+ * The computation time is recorded by the {@code follow.suggestions.compute} timer.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see FollowGraph
+ * @see FollowSuggestion
+ */
+@Service
+public class FollowSuggestionService {
+
+    private static final int FOLLOWED_BY_WEIGHT = 2;
+    private static final int SHARED_GAME_WEIGHT = 1;
+    private static final int TRAVERSAL_CHUNK_SIZE = 16;
+
+    private final FollowGraph followGraph;
+    private final RunRepository runRepository;
+    private final UserRepository userRepository;
+    private final ForkJoinPool pool;
+    private final ThreadPoolExecutor queryExecutor;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int maxFollowed;
+    private final int maxFollowedFollowing;
+    private final int maxGameCandidates;
+    private final long timeBudgetNanos;
+    private final long cacheTtlNanos;
+    private final Map<Long, CachedSuggestions> cache = new ConcurrentHashMap<>();
+    private final Timer computeTimer;
+    private final Counter truncated;
+
+    /**
+     * Constructor for FollowSuggestionService, injecting dependencies.
+     *
+     * @param followGraph          The in-memory index of the follow graph.
+     * @param runRepository        The RunRepository used to find users running the same games.
+     * @param userRepository       The UserRepository used to read the logins of the suggested users.
+     * @param jdbcTemplate         The JdbcTemplate used to set the statement timeout of the shared games query.
+     * @param transactionManager   The transaction manager of the shared games query.
+     * @param parallelism          The number of threads of the pool, or 0 for one per available processor.
+     * @param queryThreads         The number of threads running shared games queries, also the number of queries
+     *                             allowed to wait for a thread.
+     * @param maxFollowed          The largest number of followed users visited in the traversal.
+     * @param maxFollowedFollowing The largest number of users visited for every followed user.
+     * @param maxGameCandidates    The largest number of users sharing games considered.
+     * @param timeBudget           The longest time spent computing the suggestions of one user.
+     * @param cacheTtl             How long the suggestions of a user are cached.
+     * @param meterRegistry        The registry of the suggestion metrics.
+     */
+    @Autowired
+    public FollowSuggestionService(FollowGraph followGraph, RunRepository runRepository, UserRepository userRepository,
+                                   JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                   @Value("${follow.suggestions.parallelism:0}") int parallelism,
+                                   @Value("${follow.suggestions.query-threads:4}") int queryThreads,
+                                   @Value("${follow.suggestions.max-followed:200}") int maxFollowed,
+                                   @Value("${follow.suggestions.max-followed-following:500}") int maxFollowedFollowing,
+                                   @Value("${follow.suggestions.max-game-candidates:200}") int maxGameCandidates,
+                                   @Value("${follow.suggestions.time-budget:PT0.3S}") Duration timeBudget,
+                                   @Value("${follow.suggestions.cache-ttl:PT10M}") Duration cacheTtl,
+                                   MeterRegistry meterRegistry) {
+        this.followGraph = followGraph;
+        this.runRepository = runRepository;
+        this.userRepository = userRepository;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.queryExecutor = new ThreadPoolExecutor(queryThreads, queryThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queryThreads), runnable -> {
+            Thread thread = new Thread(runnable, "follow-suggestions-query-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxFollowed = maxFollowed;
+        this.maxFollowedFollowing = maxFollowedFollowing;
+        this.maxGameCandidates = maxGameCandidates;
+        this.timeBudgetNanos = timeBudget.toNanos();
+        this.cacheTtlNanos = cacheTtl.toNanos();
+        this.computeTimer = Timer.builder("follow.suggestions.compute")
+                .description("Time spent computing follow suggestions").register(meterRegistry);
+        this.truncated = Counter.builder("follow.suggestions.truncated")
+                .description("Follow suggestions cut short by the time budget").register(meterRegistry);
+    }
+
+    /**
+     * Retrieves the users suggested to be followed by a user, best first.
+     *
+     * @param userId The ID of the user.
+     * @param viewer The authenticated user asking for the suggestions.
+     * @param limit  The maximum number of suggestions, or null for the default.
+     * @return The suggestions, leaving out users already followed.
+     * @throws AccessDeniedException    If the viewer is neither the user nor an administrator.
+     * @throws IllegalArgumentException If the limit is not positive.
+     */
+    public List<FollowSuggestion> getSuggestions(long userId, User viewer, Integer limit) {
+        if (viewer.getUserId() != userId && viewer.getRole() != ADMIN) {
+            throw new AccessDeniedException("You are not allowed to read these suggestions");
+        }
+        int size = CursorPage.normalizeLimit(limit);
+        CachedSuggestions cached = cache.get(userId);
+        List<FollowSuggestion> suggestions;
+        if (cached != null && !cached.isExpired(System.nanoTime(), cacheTtlNanos)) {
+            suggestions = cached.suggestions;
+        } else {
+            suggestions = computeTimer.record(() -> compute(userId));
+        }
+        return suggestions.stream()
+                .filter(suggestion -> !followGraph.isFollowing(userId, suggestion.getUserId()))
+                .limit(size)
+                .toList();
+    }
+
+    /**
+     * Drops the cached suggestions that have expired.
+     */
+    @Scheduled(fixedDelayString = "${follow.suggestions.cache-ttl:PT10M}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        cache.values().removeIf(cached -> cached.isExpired(now, cacheTtlNanos));
+    }
+
+    /**
+     * Stops the pool and query threads when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+        queryExecutor.shutdownNow();
+    }
+
+    private List<FollowSuggestion> compute(long userId) {
+        long start = System.nanoTime();
+        long deadline = start + timeBudgetNanos;
+        AtomicBoolean cutShort = new AtomicBoolean();
+        long[] followed = sample(followGraph.following(userId), maxFollowed);
+        ForkJoinTask<Map<Long, Integer>> traversal =
+                pool.submit(new TwoHopTask(userId, followed, 0, followed.length, deadline, cutShort));
+        Future<List<Object[]>> sharedGames;
+        try {
+            sharedGames = queryExecutor.submit(() -> findSharedGames(userId, deadline));
+        } catch (RejectedExecutionException e) {
+            sharedGames = null;
+        }
+
+        Map<Long, int[]> reasons = new HashMap<>();
+        Map<Long, Integer> followedBy = await(traversal, deadline, cutShort);
+        if (followedBy != null) {
+            followedBy.forEach((candidateId, count) -> reasons.computeIfAbsent(candidateId, id -> new int[2])[0] = count);
+        }
+        List<Object[]> games = sharedGames == null ? null : await(sharedGames, deadline, cutShort);
+        if (games == null) {
+            cutShort.set(true);
+        } else {
+            for (Object[] row : games) {
+                long candidateId = ((Number) row[0]).longValue();
+                if (!followGraph.isFollowing(userId, candidateId)) {
+                    reasons.computeIfAbsent(candidateId, id -> new int[2])[1] = ((Number) row[1]).intValue();
+                }
+            }
+        }
+
+        List<Map.Entry<Long, int[]>> ranked = new ArrayList<>(reasons.entrySet());
+        ranked.sort(Comparator.<Map.Entry<Long, int[]>>comparingInt(entry -> -score(entry.getValue()))
+                .thenComparing(Map.Entry::getKey));
+        if (ranked.size() > CursorPage.MAX_LIMIT) {
+            ranked = ranked.subList(0, CursorPage.MAX_LIMIT);
+        }
+        Map<Long, String> logins = new HashMap<>();
+        if (!ranked.isEmpty()) {
+            for (UserSummary user : userRepository.findSummariesByUserIdIn(ranked.stream().map(Map.Entry::getKey).toList())) {
+                logins.put(user.getUserId(), user.getLogin());
+            }
+        }
+        List<FollowSuggestion> suggestions = new ArrayList<>(ranked.size());
+        for (Map.Entry<Long, int[]> entry : ranked) {
+            String login = logins.get(entry.getKey());
+            if (login != null) {
+                int[] reason = entry.getValue();
+                suggestions.add(new FollowSuggestion(entry.getKey(), login, reason[0], reason[1], score(reason)));
+            }
+        }
+
+        if (cutShort.get()) {
+            truncated.increment();
+        } else {
+            cache.put(userId, new CachedSuggestions(suggestions, start));
+        }
+        return suggestions;
+    }
+
+    /**
+     * Counts the games shared with other users, within the remaining budget.
+     *
+     * @return The pairs of user ID and number of shared games, or null if the budget ran out.
+     */
+    private List<Object[]> findSharedGames(long userId, long deadline) {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMillis <= 0) {
+            return null;
+        }
+        try {
+            return readOnlyTransaction.execute(status -> {
+                jdbcTemplate.queryForObject("select set_config('statement_timeout', ?, true)", String.class,
+                        remainingMillis + "ms");
+                List<Long> gameIds = runRepository.findGameIdsByUserId(userId);
+                if (gameIds.isEmpty()) {
+                    return Collections.<Object[]>emptyList();
+                }
+                return runRepository.countSharedGames(gameIds, userId, PageRequest.of(0, maxGameCandidates));
+            });
+        } catch (QueryTimeoutException e) {
+            return null;
+        }
+    }
+
+    private static int score(int[] reason) {
+        return reason[0] * FOLLOWED_BY_WEIGHT + reason[1] * SHARED_GAME_WEIGHT;
+    }
+
+    private static <T> T await(Future<T> future, long deadline, AtomicBoolean cutShort) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            cutShort.set(true);
+            return null;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while computing follow suggestions");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Picks at most {@code max} IDs spread evenly over a sorted array of IDs.
+     */
+    private static long[] sample(long[] ids, int max) {
+        if (ids.length <= max) {
+            return ids;
+        }
+        long[] sampled = new long[max];
+        for (int i = 0; i < max; i++) {
+            sampled[i] = ids[(int) ((long) i * ids.length / max)];
+        }
+        return sampled;
+    }
+
+    /**
+     * Counts, for every user reached in two hops, how many of the given followed users follow it. Ranges of the
+     * followed users are split between the pool threads; every thread stops when the deadline passes.
+     */
+    private final class TwoHopTask extends RecursiveTask<Map<Long, Integer>> {
+
+        private final long userId;
+        private final long[] followed;
+        private final int from;
+        private final int to;
+        private final long deadline;
+        private final AtomicBoolean cutShort;
+
+        private TwoHopTask(long userId, long[] followed, int from, int to, long deadline, AtomicBoolean cutShort) {
+            this.userId = userId;
+            this.followed = followed;
+            this.from = from;
+            this.to = to;
+            this.deadline = deadline;
+            this.cutShort = cutShort;
+        }
+
+        @Override
+        protected Map<Long, Integer> compute() {
+            if (to - from > TRAVERSAL_CHUNK_SIZE) {
+                int middle = (from + to) >>> 1;
+                TwoHopTask left = new TwoHopTask(userId, followed, from, middle, deadline, cutShort);
+                left.fork();
+                Map<Long, Integer> counts = new TwoHopTask(userId, followed, middle, to, deadline, cutShort).compute();
+                left.join().forEach((candidateId, count) -> counts.merge(candidateId, count, Integer::sum));
+                return counts;
+            }
+            Map<Long, Integer> counts = new HashMap<>();
+            for (int i = from; i < to; i++) {
+                if (System.nanoTime() - deadline > 0) {
+                    cutShort.set(true);
+                    break;
+                }
+                for (long candidateId : sample(followGraph.following(followed[i]), maxFollowedFollowing)) {
+                    if (candidateId != userId && !followGraph.isFollowing(userId, candidateId)) {
+                        counts.merge(candidateId, 1, Integer::sum);
+                    }
+                }
+            }
+            return counts;
+        }
+    }
+
+    private static final class CachedSuggestions {
+
+        private final List<FollowSuggestion> suggestions;
+        private final long computedAt;
+
+        private CachedSuggestions(List<FollowSuggestion> suggestions, long computedAt) {
+            this.suggestions = suggestions;
+            this.computedAt = computedAt;
+        }
+
+        private boolean isExpired(long now, long ttlNanos) {
+            return now - computedAt >= ttlNanos;
+        }
+    }
+}
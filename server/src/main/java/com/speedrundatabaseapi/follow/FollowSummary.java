@@ -0,0 +1,61 @@
+package com.speedrundatabaseapi.follow;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only summary of a follow, holding the same fields as the JSON representation of a Follow.
+ *
+ * <p>Summaries are selected directly from the follow table with a constructor expression, so paginated listings
+ * of follows never load the entities of the users involved.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see FollowCustomSerializer
+ * @see FollowRepository
+ */
+public class FollowSummary {
+
+    private final long followerId;
+    private final long followingId;
+    private final LocalDateTime followTime;
+
+    /**
+     * Parameterized constructor for the FollowSummary class.
+     *
+     * @param followerId  The ID of the following user.
+     * @param followingId The ID of the followed user.
+     * @param followTime  The time of the follow.
+     */
+    public FollowSummary(long followerId, long followingId, LocalDateTime followTime) {
+        this.followerId = followerId;
+        this.followingId = followingId;
+        this.followTime = followTime;
+    }
+
+    /**
+     * Getter for the ID of the following user.
+     *
+     * @return The follower ID.
+     */
+    public long getFollowerId() {
+        return followerId;
+    }
+
+    /**
+     * Getter for the ID of the followed user.
+     *
+     * @return The following ID.
+     */
+    public long getFollowingId() {
+        return followingId;
+    }
+
+    /**
+     * Getter for the time of the follow.
+     *
+     * @return The follow time.
+     */
+    public LocalDateTime getFollowTime() {
+        return followTime;
+    }
+}
@@ -15,14 +15,17 @@ import java.util.Set;
  * includes various properties such as the game name, release year, description, image,
  * average rating, and associations with platforms, ratings, and runs.</p>
  *
- * <p>Note: The average rating is calculated dynamically using the ratings associated
- * with the game, and it is not directly stored in the database.</p>
+ * <p>Note: The average rating is derived from the rating sum and count, which are running counters
+ * maintained by {@link GameRepository#addRating(long, long, long)}. None of the three columns is written
+ * when the entity itself is saved, so saving a game never overwrites ratings that arrived concurrently.
+ * The same holds for the Bayesian score used to rank the top rated games, which is maintained by
+ * {@link com.speedrundatabaseapi.rating.GameRatingStatisticsService}.</p>
  *
  * @author Paweł Hajdo
  * @version 1.0
  */
 @Entity
-@Table
+@Table(indexes = @Index(name = "game_bayesian_score_idx", columnList = "bayesian_score desc, game_id"))
 public class Game {
 
     @Id
@@ -44,8 +47,17 @@ public class Game {
     private String description;
     @Column(name = "image")
     private String image;
-    @Column(name = "average_rating", columnDefinition = "NUMERIC(4,2)")
+    @Column(name = "average_rating", columnDefinition = "NUMERIC(4,2)", insertable = false, updatable = false)
     private Double averageRating;
+    @JsonIgnore
+    @Column(name = "rating_sum", columnDefinition = "BIGINT DEFAULT 0 NOT NULL", insertable = false, updatable = false)
+    private long ratingSum;
+    @JsonIgnore
+    @Column(name = "rating_count", columnDefinition = "BIGINT DEFAULT 0 NOT NULL", insertable = false, updatable = false)
+    private long ratingCount;
+    @JsonIgnore
+    @Column(name = "bayesian_score", insertable = false, updatable = false)
+    private Double bayesianScore;
     @ManyToMany
     @JoinTable(
             name = "game_on_platform",
@@ -86,18 +98,6 @@ public class Game {
         this.averageRating = averageRating;
     }
 
-    /**
-     * Recalculates the average rating based on the associated ratings.
-     */
-    public void recalculateAverageRating() {
-        if (ratings != null && !ratings.isEmpty()) {
-            double sum = ratings.stream().mapToInt(GameRating::getScore).sum();
-            this.averageRating = sum / ratings.size();
-        } else {
-            this.averageRating = null;
-        }
-    }
-
     /**
      * Gets the unique identifier for the game.
      *
@@ -1,6 +1,8 @@
 package com.speedrundatabaseapi.game;
 
+import com.speedrundatabaseapi.pagination.CursorPage;
 import com.speedrundatabaseapi.run.Run;
+import com.speedrundatabaseapi.run.RunSort;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,7 +12,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Set;
 
 /**
  * Controller class for handling HTTP requests related to Game entities.
@@ -68,20 +69,37 @@ public class GameController {
     }
 
     /**
-     * Get the runs associated with a specific game by its ID.
+     * Get a page of the runs associated with a specific game by its ID.
      *
-     * @param gameId The ID of the game.
-     * @return The set of runs associated with the specified game.
+     * @param gameId     The ID of the game.
+     * @param type       The type (category) of the runs (optional).
+     * @param platformId The ID of the platform (optional).
+     * @param sort       The property to sort by, time (default) or date (optional).
+     * @param order      The sort direction, asc or desc (optional).
+     * @param cursor     The continuation token returned with the previous page (optional).
+     * @param limit      The page size (optional).
+     * @return The page of runs associated with the specified game.
      */
     @GetMapping(path = "/{gameId}/runs")
-    public ResponseEntity<?> getRunsInGame(@PathVariable Long gameId) {
+    public ResponseEntity<?> getRunsInGame(
+            @PathVariable Long gameId,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Long platformId,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String order,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
         try {
-            Set<Run> runsInGame = gameService.getRunsInGame(gameId);
+            CursorPage<Run> runsInGame = gameService.getRunsInGame(gameId, type, platformId, RunSort.of(sort, order), cursor, limit);
             logger.info("Game runs fetched successfully");
             return ResponseEntity.ok(runsInGame);
         } catch (EntityNotFoundException e) {
             logger.info(e.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         } catch (Exception e) {
             logger.error("Error occurred while getting game runs");
             e.printStackTrace();
@@ -1,8 +1,15 @@
 package com.speedrundatabaseapi.game;
 
+import com.speedrundatabaseapi.rating.TopRatedGame;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Repository interface for performing CRUD operations on Game entities.
  *
@@ -14,4 +21,83 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface GameRepository extends JpaRepository<Game, Long> {
+
+    /**
+     * Applies a rating delta to the running rating counters of a game and refreshes its average rating.
+     *
+     * <p>The update is a single statement on the row of the game, so concurrent ratings of the same game
+     * are serialized by the database and none of them is lost.</p>
+     *
+     * @param gameId     The ID of the game.
+     * @param scoreDelta The change of the sum of scores.
+     * @param countDelta The change of the number of ratings.
+     * @return The number of updated games.
+     */
+    @Modifying
+    @Query("update Game g set g.ratingSum = g.ratingSum + :scoreDelta, g.ratingCount = g.ratingCount + :countDelta, " +
+            "g.averageRating = case when g.ratingCount + :countDelta = 0 then null " +
+            "else (g.ratingSum + :scoreDelta) * 1.0 / (g.ratingCount + :countDelta) end where g.gameId = :gameId")
+    int addRating(@Param("gameId") long gameId, @Param("scoreDelta") long scoreDelta, @Param("countDelta") long countDelta);
+
+    /**
+     * Computes the mean score of all ratings of all games from the running rating counters.
+     *
+     * @return The mean score, or null if no game has been rated yet.
+     */
+    @Query("select sum(g.ratingSum) * 1.0 / nullif(sum(g.ratingCount), 0) from Game g")
+    Double findMeanRating();
+
+    /**
+     * Recomputes the Bayesian score of a game from its rating counters.
+     *
+     * <p>The score is the average rating of the game pulled towards the mean rating of all games, as if the game
+     * had {@code priorWeight} additional ratings equal to {@code priorMean}.</p>
+     *
+     * @param gameId      The ID of the game.
+     * @param priorWeight The number of virtual ratings of the prior.
+     * @param priorMean   The mean rating of all games.
+     * @return The number of updated games.
+     */
+    @Modifying
+    @Query("update Game g set g.bayesianScore = (:priorWeight * :priorMean + g.ratingSum) / (:priorWeight + g.ratingCount) " +
+            "where g.gameId = :gameId")
+    int updateBayesianScore(@Param("gameId") long gameId, @Param("priorWeight") double priorWeight,
+                            @Param("priorMean") double priorMean);
+
+    /**
+     * Recomputes the Bayesian scores of all games from their rating counters.
+     *
+     * @param priorWeight The number of virtual ratings of the prior.
+     * @param priorMean   The mean rating of all games.
+     * @return The number of updated games.
+     * @see #updateBayesianScore(long, double, double)
+     */
+    @Modifying
+    @Query("update Game g set g.bayesianScore = (:priorWeight * :priorMean + g.ratingSum) / (:priorWeight + g.ratingCount)")
+    int updateBayesianScores(@Param("priorWeight") double priorWeight, @Param("priorMean") double priorMean);
+
+    /**
+     * Retrieves the first page of rated games, ordered by Bayesian score descending.
+     *
+     * @param pageable The page size.
+     * @return The first page of rated games.
+     */
+    @Query("select new com.speedrundatabaseapi.rating.TopRatedGame(g.gameId, g.name, g.averageRating, g.ratingCount, g.bayesianScore) " +
+            "from Game g where g.ratingCount > 0 and g.bayesianScore is not null order by g.bayesianScore desc, g.gameId asc")
+    List<TopRatedGame> findTopRatedFirstPage(Pageable pageable);
+
+    /**
+     * Retrieves the page of rated games following the given position, ordered by Bayesian score descending.
+     *
+     * @param afterScore  The Bayesian score of the last game of the previous page.
+     * @param afterGameId The ID of the last game of the previous page.
+     * @param pageable    The page size.
+     * @return The page of rated games.
+     */
+    @Query("select new com.speedrundatabaseapi.rating.TopRatedGame(g.gameId, g.name, g.averageRating, g.ratingCount, g.bayesianScore) " +
+            "from Game g where g.ratingCount > 0 and g.bayesianScore is not null " +
+            "and (g.bayesianScore < :afterScore or (g.bayesianScore = :afterScore and g.gameId > :afterGameId)) " +
+            "order by g.bayesianScore desc, g.gameId asc")
+    List<TopRatedGame> findTopRatedPageAfter(@Param("afterScore") double afterScore, @Param("afterGameId") long afterGameId,
+                                             Pageable pageable);
 }
@@ -1,8 +1,12 @@
 package com.speedrundatabaseapi.game;
 
+import com.speedrundatabaseapi.pagination.CursorPage;
 import com.speedrundatabaseapi.platform.Platform;
 import com.speedrundatabaseapi.platform.PlatformRepository;
 import com.speedrundatabaseapi.run.Run;
+import com.speedrundatabaseapi.run.RunFilter;
+import com.speedrundatabaseapi.run.RunService;
+import com.speedrundatabaseapi.run.RunSort;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -26,17 +30,20 @@ public class GameService {
 
     private final GameRepository gameRepository;
     private final PlatformRepository platformRepository;
+    private final RunService runService;
 
     /**
      * Constructs a GameService with the specified repositories.
      *
      * @param gameRepository     The repository for Game entities.
      * @param platformRepository The repository for Platform entities.
+     * @param runService         The service for querying runs.
      */
     @Autowired
-    public GameService(GameRepository gameRepository, PlatformRepository platformRepository) {
+    public GameService(GameRepository gameRepository, PlatformRepository platformRepository, RunService runService) {
         this.gameRepository = gameRepository;
         this.platformRepository = platformRepository;
+        this.runService = runService;
     }
 
     /**
@@ -123,15 +130,30 @@ public class GameService {
     }
 
     /**
-     * Retrieves the runs associated with a specific game.
+     * Retrieves a page of the runs associated with a specific game.
      *
-     * @param gameId The ID of the game.
-     * @return The set of runs associated with the specified game.
+     * <p>The runs are read with a keyset-paginated repository query, the {@code runsInGame} collection of
+     * the game is never loaded.</p>
+     *
+     * @param gameId     The ID of the game.
+     * @param type       The type (category) of the runs, or null for all types.
+     * @param platformId The ID of the platform, or null for all platforms.
+     * @param sort       The ordering of the runs.
+     * @param cursor     The continuation token returned with the previous page, or null for the first page.
+     * @param limit      The requested page size, or null for the default page size.
+     * @return The page of runs associated with the specified game.
      * @throws EntityNotFoundException If the game with the given ID is not found.
+     * @throws IllegalArgumentException If the cursor or the page size is invalid.
      */
-    public Set<Run> getRunsInGame(Long gameId) {
-        Game game = gameRepository.findById(gameId).orElseThrow(() -> new EntityNotFoundException("Game not found"));
+    public CursorPage<Run> getRunsInGame(Long gameId, String type, Long platformId, RunSort sort, String cursor, Integer limit) {
+        if (!gameRepository.existsById(gameId)) {
+            throw new EntityNotFoundException("Game not found");
+        }
 
-        return game.getRunsInGame();
+        RunFilter filter = new RunFilter();
+        filter.setGameId(gameId);
+        filter.setType(type);
+        filter.setPlatformId(platformId);
+        return runService.getRuns(filter, sort, cursor, limit);
     }
 }
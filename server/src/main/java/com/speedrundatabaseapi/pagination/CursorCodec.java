@@ -0,0 +1,60 @@
+package com.speedrundatabaseapi.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Utility class for encoding and decoding opaque pagination cursors.
+ *
+ * <p>A cursor is a list of string parts, usually the sort key and the id of the last item on a page.
+ * Each part is Base64 (URL safe) encoded, so the resulting token can be passed in a query string and
+ * the parts can contain any characters.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = ".";
+
+    private CursorCodec() {
+    }
+
+    /**
+     * Encodes the given parts into an opaque cursor.
+     *
+     * @param parts The parts of the cursor.
+     * @return The encoded cursor.
+     */
+    public static String encode(String... parts) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return String.join(SEPARATOR, Arrays.stream(parts)
+                .map(part -> encoder.encodeToString(part.getBytes(StandardCharsets.UTF_8)))
+                .toList());
+    }
+
+    /**
+     * Decodes an opaque cursor into its parts.
+     *
+     * @param cursor        The cursor received from a client.
+     * @param expectedParts The number of parts the cursor should consist of.
+     * @return The decoded parts.
+     * @throws IllegalArgumentException If the cursor is malformed.
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        String[] parts = cursor.split("\\" + SEPARATOR, -1);
+        if (parts.length != expectedParts) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        try {
+            for (int i = 0; i < parts.length; i++) {
+                parts[i] = new String(decoder.decode(parts[i]), StandardCharsets.UTF_8);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,93 @@
+package com.speedrundatabaseapi.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A single page of results returned by keyset-paginated endpoints.
+ *
+ * <p>The page holds the fetched items and an opaque continuation token. Clients pass the token back
+ * as the {@code cursor} request parameter to fetch the next page; a {@code null} token means that
+ * there are no more results.</p>
+ *
+ * @param <T> The type of items on the page.
+ * @author Paweł Hajdo
+ * @version 1.0
+ */
+public class CursorPage<T> {
+
+    /** Number of items returned when the client does not specify a limit. */
+    public static final int DEFAULT_LIMIT = 50;
+
+    /** Maximum number of items a client can request on a single page. */
+    public static final int MAX_LIMIT = 100;
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    /**
+     * Parameterized constructor for the CursorPage class.
+     *
+     * @param items      The items on this page.
+     * @param nextCursor The continuation token for the next page, or null if this is the last page.
+     */
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Builds a page from a result list fetched with one extra row.
+     *
+     * <p>Repositories fetch {@code limit + 1} rows; the presence of the extra row tells that another
+     * page exists without issuing a separate count query.</p>
+     *
+     * @param fetched  The fetched rows, at most {@code limit + 1}.
+     * @param limit    The page size requested by the client.
+     * @param cursorOf Function producing the continuation token for the last item on the page.
+     * @param <T>      The type of items on the page.
+     * @return The page of results.
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int limit, Function<T, String> cursorOf) {
+        if (fetched.size() <= limit) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, limit);
+        return new CursorPage<>(items, cursorOf.apply(items.get(limit - 1)));
+    }
+
+    /**
+     * Normalizes the page size requested by a client.
+     *
+     * @param limit The requested page size, may be null.
+     * @return The page size within the range 1-{@link #MAX_LIMIT}.
+     * @throws IllegalArgumentException If the requested page size is not positive.
+     */
+    public static int normalizeLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be a positive number");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    /**
+     * Gets the items on this page.
+     *
+     * @return The items on this page.
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Gets the continuation token for the next page.
+     *
+     * @return The continuation token, or null if this is the last page.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,50 @@
+package com.speedrundatabaseapi.rating;
+
+import jakarta.persistence.*;
+
+/**
+ * Entity class representing one bucket of the rating histogram of a game.
+ *
+ * <p>The rating_histogram table holds, for every game and score, the number of ratings with that score.
+ * The counters are changed only with atomic deltas by {@link GameRatingBucketRepository#addToBucket},
+ * so the entity itself is read-only.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see GameRatingBucketKey
+ * @see GameRatingService
+ */
+@Entity
+@Table(name = "rating_histogram")
+public class GameRatingBucket {
+
+    @EmbeddedId
+    private GameRatingBucketKey id;
+
+    @Column(name = "rating_count", nullable = false)
+    private long ratingCount;
+
+    /**
+     * Default constructor for the GameRatingBucket class.
+     */
+    public GameRatingBucket() {
+    }
+
+    /**
+     * Getter method for retrieving the composite key of the bucket.
+     *
+     * @return The composite key.
+     */
+    public GameRatingBucketKey getId() {
+        return id;
+    }
+
+    /**
+     * Getter method for retrieving the number of ratings in the bucket.
+     *
+     * @return The number of ratings.
+     */
+    public long getRatingCount() {
+        return ratingCount;
+    }
+}
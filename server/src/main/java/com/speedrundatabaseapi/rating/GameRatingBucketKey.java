@@ -0,0 +1,79 @@
+package com.speedrundatabaseapi.rating;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Composite key class for the GameRatingBucket entity.
+ *
+ * <p>A bucket of the rating histogram is identified by the game and the score it counts.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see GameRatingBucket
+ */
+@Embeddable
+public class GameRatingBucketKey implements Serializable {
+
+    /** The ID of the game. */
+    @Column(name = "game_id")
+    private long gameId;
+
+    /** The score counted by the bucket. */
+    @Column(name = "score")
+    private int score;
+
+    /**
+     * Default constructor for GameRatingBucketKey.
+     */
+    public GameRatingBucketKey() {
+    }
+
+    /**
+     * Parameterized constructor for GameRatingBucketKey.
+     *
+     * @param gameId The ID of the game.
+     * @param score  The score counted by the bucket.
+     */
+    public GameRatingBucketKey(long gameId, int score) {
+        this.gameId = gameId;
+        this.score = score;
+    }
+
+    /**
+     * Get the ID of the game.
+     *
+     * @return The ID of the game.
+     */
+    public long getGameId() {
+        return gameId;
+    }
+
+    /**
+     * Get the score counted by the bucket.
+     *
+     * @return The score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof GameRatingBucketKey other)) {
+            return false;
+        }
+        return gameId == other.gameId && score == other.score;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(gameId, score);
+    }
+}
@@ -0,0 +1,61 @@
+package com.speedrundatabaseapi.rating;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for the rating histogram buckets.
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see GameRatingBucket
+ */
+@Repository
+public interface GameRatingBucketRepository extends JpaRepository<GameRatingBucket, GameRatingBucketKey> {
+
+    /**
+     * Retrieves the histogram buckets of a game.
+     *
+     * @param gameId The ID of the game.
+     * @return The buckets of the game.
+     */
+    List<GameRatingBucket> findByIdGameId(long gameId);
+
+    /**
+     * Atomically adds a delta to a histogram bucket, creating the bucket if it does not exist yet.
+     *
+     * @param gameId The ID of the game.
+     * @param score  The score counted by the bucket.
+     * @param delta  The change of the number of ratings.
+     */
+    @Modifying
+    @Query(value = "insert into {h-schema}rating_histogram as h (game_id, score, rating_count) values (:gameId, :score, :delta) " +
+            "on conflict (game_id, score) do update set rating_count = h.rating_count + excluded.rating_count", nativeQuery = true)
+    void addToBucket(@Param("gameId") long gameId, @Param("score") int score, @Param("delta") long delta);
+
+    /**
+     * Fills the rating histogram from the rating table in a single statement.
+     *
+     * @return The number of buckets inserted.
+     */
+    @Modifying
+    @Query(value = "insert into {h-schema}rating_histogram (game_id, score, rating_count) " +
+            "select game_id, score, count(*) from {h-schema}rating group by game_id, score", nativeQuery = true)
+    int rebuild();
+
+    /**
+     * Recomputes the rating counters and average ratings of all games from the rating table.
+     *
+     * @return The number of games updated.
+     */
+    @Modifying
+    @Query(value = "update {h-schema}game g set rating_sum = s.total, rating_count = s.ratings, " +
+            "average_rating = s.total * 1.0 / s.ratings from (select game_id, sum(score) as total, count(*) as ratings " +
+            "from {h-schema}rating group by game_id) s where g.game_id = s.game_id", nativeQuery = true)
+    int rebuildGameCounters();
+}
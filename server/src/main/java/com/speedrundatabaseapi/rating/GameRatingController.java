@@ -1,5 +1,6 @@
 package com.speedrundatabaseapi.rating;
 
+import com.speedrundatabaseapi.pagination.CursorPage;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,7 +13,7 @@ import org.springframework.web.bind.annotation.*;
  * Controller class handling HTTP requests related to game ratings in the Speedrun Database API.
  *
  * <p>This class is responsible for handling RESTful endpoints related to game ratings, such as adding
- * a new rating for a game. It communicates with the {@link GameRatingService} to perform the necessary
+ * a new rating for a game and reading the rating statistics of games. It communicates with the {@link GameRatingService} to perform the necessary
  * business logic for game ratings.</p>
  *
  * @author Paweł Hajdo
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
  * @see ResponseEntity
  * @see GameRatingService
  * @see GameRatingRequest
+ * @see GameRatingStatisticsService
  */
 @RestController
 @RequestMapping("speedruns/api/game-ratings")
@@ -31,15 +33,18 @@ public class GameRatingController {
 
     private final Logger logger = LoggerFactory.getLogger(GameRatingController.class);
     private final GameRatingService gameRatingService;
+    private final GameRatingStatisticsService gameRatingStatisticsService;
 
     /**
      * Constructor for the GameRatingController class.
      *
-     * @param gameRatingService The service responsible for handling game rating operations.
+     * @param gameRatingService           The service responsible for handling game rating operations.
+     * @param gameRatingStatisticsService The service providing rating histograms and the top rated games.
      */
     @Autowired
-    public GameRatingController(GameRatingService gameRatingService) {
+    public GameRatingController(GameRatingService gameRatingService, GameRatingStatisticsService gameRatingStatisticsService) {
         this.gameRatingService = gameRatingService;
+        this.gameRatingStatisticsService = gameRatingStatisticsService;
     }
 
     /**
@@ -66,4 +71,50 @@ public class GameRatingController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error while adding rating");
         }
     }
+
+    /**
+     * Handles HTTP GET requests to retrieve the score distribution of a game.
+     *
+     * @param gameId The ID of the game.
+     * @return ResponseEntity containing the rating histogram of the game.
+     */
+    @GetMapping("/games/{gameId}/histogram")
+    public ResponseEntity<?> getHistogram(@PathVariable long gameId) {
+        try {
+            GameRatingHistogram histogram = gameRatingStatisticsService.getHistogram(gameId);
+            logger.info("Rating histogram of game " + gameId + " retrieved successfully");
+            return ResponseEntity.ok(histogram);
+        } catch (EntityNotFoundException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error occurred while retrieving rating histogram");
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Handles HTTP GET requests to retrieve a page of the top rated games, ranked by Bayesian score.
+     *
+     * @param cursor The continuation token returned with the previous page (optional).
+     * @param limit  The page size (optional).
+     * @return ResponseEntity containing the page of top rated games.
+     */
+    @GetMapping("/top")
+    public ResponseEntity<?> getTopRatedGames(@RequestParam(required = false) String cursor,
+                                              @RequestParam(required = false) Integer limit) {
+        try {
+            CursorPage<TopRatedGame> games = gameRatingStatisticsService.getTopRatedGames(cursor, limit);
+            logger.info("Top rated games retrieved successfully");
+            return ResponseEntity.ok(games);
+        } catch (IllegalArgumentException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error occurred while retrieving top rated games");
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
 }
@@ -0,0 +1,52 @@
+package com.speedrundatabaseapi.rating;
+
+import java.util.Map;
+
+/**
+ * Distribution of the scores a game was rated with.
+ *
+ * <p>The distribution always contains every score from {@link GameRatingStatisticsService#MIN_SCORE} to
+ * {@link GameRatingStatisticsService#MAX_SCORE}, with zero for the scores nobody gave.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see GameRatingStatisticsService
+ */
+public class GameRatingHistogram {
+
+    private final long gameId;
+    private final long ratingCount;
+    private final Double averageRating;
+    private final Map<Integer, Long> scores;
+
+    /**
+     * Parameterized constructor for the GameRatingHistogram class.
+     *
+     * @param gameId        The ID of the game.
+     * @param ratingCount   The number of ratings of the game.
+     * @param averageRating The average rating of the game, or null if it has not been rated.
+     * @param scores        The number of ratings per score, in score order.
+     */
+    public GameRatingHistogram(long gameId, long ratingCount, Double averageRating, Map<Integer, Long> scores) {
+        this.gameId = gameId;
+        this.ratingCount = ratingCount;
+        this.averageRating = averageRating;
+        this.scores = scores;
+    }
+
+    public long getGameId() {
+        return gameId;
+    }
+
+    public long getRatingCount() {
+        return ratingCount;
+    }
+
+    public Double getAverageRating() {
+        return averageRating;
+    }
+
+    public Map<Integer, Long> getScores() {
+        return scores;
+    }
+}
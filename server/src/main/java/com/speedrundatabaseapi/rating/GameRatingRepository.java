@@ -1,6 +1,13 @@
 package com.speedrundatabaseapi.rating;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 /**
  * Repository interface for accessing and managing GameRating entities in the Speedrun Database API.
@@ -19,4 +26,30 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * @see GameRatingKey
  */
 public interface GameRatingRepository extends JpaRepository<GameRating, GameRatingKey> {
+
+    /**
+     * Retrieves the rating of a game by a user and locks it, so that concurrent changes of the same rating
+     * apply their deltas one after another.
+     *
+     * @param userId The ID of the user.
+     * @param gameId The ID of the game.
+     * @return The rating, or empty if the user has not rated the game yet.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from GameRating r where r.id.userId = :userId and r.id.gameId = :gameId")
+    Optional<GameRating> findForUpdate(@Param("userId") long userId, @Param("gameId") long gameId);
+
+    /**
+     * Creates the rating of a game by a user unless it already exists. If another transaction is creating the same
+     * rating, waits for it to finish.
+     *
+     * @param userId The ID of the user.
+     * @param gameId The ID of the game.
+     * @param score  The score given to the game.
+     * @return 1 if the rating was created, 0 if it already existed.
+     */
+    @Modifying
+    @Query(value = "insert into {h-schema}rating (user_id, game_id, score) values (:userId, :gameId, :score) " +
+            "on conflict (user_id, game_id) do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") long userId, @Param("gameId") long gameId, @Param("score") int score);
 }
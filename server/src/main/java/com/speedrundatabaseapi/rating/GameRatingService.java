@@ -1,21 +1,22 @@
 package com.speedrundatabaseapi.rating;
 
-import com.speedrundatabaseapi.game.Game;
 import com.speedrundatabaseapi.game.GameRepository;
-import com.speedrundatabaseapi.user.User;
 import com.speedrundatabaseapi.user.UserRepository;
+import com.speedrundatabaseapi.user.UserStatsService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
-
 /**
  * Service class for managing game ratings in the Speedrun Database API.
  *
- * <p>This class provides methods for adding or updating game ratings, and ensures the recalculation of the
- * average rating for associated games.</p>
+ * <p>This class provides methods for adding or updating game ratings. Instead of recalculating the average
+ * rating of a game from all its ratings, every change applies atomic deltas to the running sum and count kept
+ * on the game row and to the rating histogram of the game, so the cost of a rating does not grow with the
+ * number of ratings the game already has.</p>
  *
  * @author Paweł Hajdo
  * @version 1.0
@@ -26,6 +27,9 @@ public class GameRatingService {
     private final GameRatingRepository gameRatingRepository;
     private final GameRepository gameRepository;
     private final UserRepository userRepository;
+    private final GameRatingBucketRepository gameRatingBucketRepository;
+    private final GameRatingStatisticsService gameRatingStatisticsService;
+    private final UserStatsService userStatsService;
 
     /**
      * Constructor for the GameRatingService class.
@@ -33,16 +37,40 @@ public class GameRatingService {
      * @param gameRatingRepository The repository for managing game ratings.
      * @param gameRepository       The repository for managing games.
      * @param userRepository       The repository for managing users.
+     * @param gameRatingBucketRepository The repository for managing the rating histograms.
+     * @param gameRatingStatisticsService The service maintaining the Bayesian scores of games.
+     * @param userStatsService     The service maintaining the rating counts of users.
      */
     @Autowired
-    public GameRatingService(GameRatingRepository gameRatingRepository, GameRepository gameRepository, UserRepository userRepository) {
+    public GameRatingService(GameRatingRepository gameRatingRepository, GameRepository gameRepository,
+                             UserRepository userRepository, GameRatingBucketRepository gameRatingBucketRepository,
+                             GameRatingStatisticsService gameRatingStatisticsService, UserStatsService userStatsService) {
         this.gameRatingRepository = gameRatingRepository;
         this.gameRepository = gameRepository;
         this.userRepository = userRepository;
+        this.gameRatingBucketRepository = gameRatingBucketRepository;
+        this.gameRatingStatisticsService = gameRatingStatisticsService;
+        this.userStatsService = userStatsService;
+    }
+
+    /**
+     * Fills the rating histograms and the rating counters of the games from the existing ratings when the
+     * histogram table is still empty, e.g. on the first start after the counters were introduced, and then
+     * refreshes the Bayesian scores of all games.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (gameRatingBucketRepository.count() == 0 && gameRatingRepository.count() > 0) {
+            gameRatingBucketRepository.rebuild();
+            gameRatingBucketRepository.rebuildGameCounters();
+        }
+        gameRatingStatisticsService.refreshScores();
     }
 
     /**
-     * Adds or updates a game rating for a user and a game, and recalculates the average rating for the associated game.
+     * Adds or updates a game rating for a user and a game, and applies the change to the rating counters
+     * and the histogram of the associated game.
      *
      * @param userId The ID of the user providing the rating.
      * @param gameId The ID of the game being rated.
@@ -52,26 +80,36 @@ public class GameRatingService {
      */
     @Transactional
     public void addGameRating(Long userId, Long gameId, int score) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new EntityNotFoundException("User not found while adding rating to game"));
-        Game game = gameRepository.findById(gameId).orElseThrow(() -> new EntityNotFoundException("Game not found while adding rating to game"));
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("User not found while adding rating to game");
+        }
+        if (!gameRepository.existsById(gameId)) {
+            throw new EntityNotFoundException("Game not found while adding rating to game");
+        }
 
-        if (score < 1 || score > 10) {
+        if (score < GameRatingStatisticsService.MIN_SCORE || score > GameRatingStatisticsService.MAX_SCORE) {
             throw new IllegalArgumentException("Score must be in the range of 1-10");
         }
 
-        GameRatingKey ratingKey = new GameRatingKey(userId, gameId);
-
-        Optional<GameRating> existingRating = gameRatingRepository.findById(ratingKey);
-        if (existingRating.isPresent()) {
-            GameRating ratingToUpdate = existingRating.get();
+        // a first rating is inserted without a prior read, so two concurrent first ratings cannot both take the
+        // insert path; the one that finds the row already there locks it and updates it instead
+        if (gameRatingRepository.insertIfAbsent(userId, gameId, score) == 1) {
+            gameRatingBucketRepository.addToBucket(gameId, score, 1);
+            gameRepository.addRating(gameId, score, 1);
+            userStatsService.onRatingAdded(userId);
+        } else {
+            GameRating ratingToUpdate = gameRatingRepository.findForUpdate(userId, gameId)
+                    .orElseThrow(() -> new EntityNotFoundException("Rating was deleted while being changed"));
+            int previousScore = ratingToUpdate.getScore();
+            if (previousScore == score) {
+                return;
+            }
             ratingToUpdate.setScore(score);
             gameRatingRepository.save(ratingToUpdate);
-        } else {
-            GameRating newRating = new GameRating(ratingKey, user, game, score);
-            gameRatingRepository.save(newRating);
+            gameRatingBucketRepository.addToBucket(gameId, previousScore, -1);
+            gameRatingBucketRepository.addToBucket(gameId, score, 1);
+            gameRepository.addRating(gameId, score - previousScore, 0);
         }
-
-        game.recalculateAverageRating();
-        gameRepository.save(game);
+        gameRatingStatisticsService.onRatingChanged(gameId);
     }
 }
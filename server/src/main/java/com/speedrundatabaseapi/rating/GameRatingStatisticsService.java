@@ -0,0 +1,140 @@
+package com.speedrundatabaseapi.rating;
+
+import com.speedrundatabaseapi.game.Game;
+import com.speedrundatabaseapi.game.GameRepository;
+import com.speedrundatabaseapi.pagination.CursorCodec;
+import com.speedrundatabaseapi.pagination.CursorPage;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service class providing rating statistics of games in the Speedrun Database API.
+ *
+ * <p>The score distribution of a game is read from its precomputed rating histogram. The top rated games are
+ * ranked by their Bayesian score, {@code (w * m + sum) / (w + count)}, where {@code m} is the mean rating of
+ * all games and {@code w} is the configured prior weight. The score is stored on the game row and indexed, so
+ * pages of the ranking are read with keyset pagination.</p>
+ *
+ * <p>Every rating recomputes the score of the rated game only, using the last known mean rating. Since every
+ * rating also shifts the mean slightly, the scores of all games are recomputed with a single statement at
+ * startup and then periodically.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see GameRatingService
+ * @see GameRatingBucket
+ */
+@Service
+public class GameRatingStatisticsService {
+
+    /** The lowest score a game can be rated with. */
+    public static final int MIN_SCORE = 1;
+
+    /** The highest score a game can be rated with. */
+    public static final int MAX_SCORE = 10;
+
+    private final Logger logger = LoggerFactory.getLogger(GameRatingStatisticsService.class);
+    private final GameRepository gameRepository;
+    private final GameRatingBucketRepository gameRatingBucketRepository;
+    private final double priorWeight;
+    private volatile double priorMean = (MIN_SCORE + MAX_SCORE) / 2.0;
+
+    /**
+     * Constructor for the GameRatingStatisticsService class.
+     *
+     * @param gameRepository             The repository for managing games.
+     * @param gameRatingBucketRepository The repository for managing the rating histograms.
+     * @param priorWeight                The number of virtual mean ratings every game starts with.
+     */
+    @Autowired
+    public GameRatingStatisticsService(GameRepository gameRepository, GameRatingBucketRepository gameRatingBucketRepository,
+                                       @Value("${ratings.bayesian.prior-weight:10}") double priorWeight) {
+        this.gameRepository = gameRepository;
+        this.gameRatingBucketRepository = gameRatingBucketRepository;
+        this.priorWeight = priorWeight;
+    }
+
+    /**
+     * Recomputes the Bayesian score of a game after one of its ratings was added or changed.
+     *
+     * @param gameId The ID of the game.
+     */
+    @Transactional
+    public void onRatingChanged(long gameId) {
+        gameRepository.updateBayesianScore(gameId, priorWeight, priorMean);
+    }
+
+    /**
+     * Recomputes the mean rating of all games and the Bayesian scores of all games.
+     */
+    @Scheduled(fixedDelayString = "${ratings.bayesian.refresh-interval:PT15M}",
+            initialDelayString = "${ratings.bayesian.refresh-interval:PT15M}")
+    @Transactional
+    public void refreshScores() {
+        Double mean = gameRepository.findMeanRating();
+        if (mean != null) {
+            priorMean = mean;
+        }
+        int updated = gameRepository.updateBayesianScores(priorWeight, priorMean);
+        logger.info("Bayesian scores of " + updated + " games refreshed, mean rating " + priorMean);
+    }
+
+    /**
+     * Retrieves the score distribution of a game.
+     *
+     * @param gameId The ID of the game.
+     * @return The rating histogram of the game.
+     * @throws EntityNotFoundException If the game is not found.
+     */
+    public GameRatingHistogram getHistogram(long gameId) {
+        Game game = gameRepository.findById(gameId)
+                .orElseThrow(() -> new EntityNotFoundException("Game with id " + gameId + " not found"));
+        Map<Integer, Long> scores = new LinkedHashMap<>();
+        for (int score = MIN_SCORE; score <= MAX_SCORE; score++) {
+            scores.put(score, 0L);
+        }
+        long ratingCount = 0;
+        for (GameRatingBucket bucket : gameRatingBucketRepository.findByIdGameId(gameId)) {
+            scores.put(bucket.getId().getScore(), bucket.getRatingCount());
+            ratingCount += bucket.getRatingCount();
+        }
+        return new GameRatingHistogram(gameId, ratingCount, game.getAverageRating(), scores);
+    }
+
+    /**
+     * Retrieves a page of the rated games, ordered by Bayesian score from the best.
+     *
+     * @param cursor The continuation token returned with the previous page, or null for the first page.
+     * @param limit  The requested page size, or null for the default page size.
+     * @return The page of top rated games.
+     * @throws IllegalArgumentException If the cursor or the page size is invalid.
+     */
+    public CursorPage<TopRatedGame> getTopRatedGames(String cursor, Integer limit) {
+        int pageSize = CursorPage.normalizeLimit(limit);
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        List<TopRatedGame> games;
+        if (cursor == null) {
+            games = gameRepository.findTopRatedFirstPage(page);
+        } else {
+            String[] parts = CursorCodec.decode(cursor, 2);
+            try {
+                games = gameRepository.findTopRatedPageAfter(Double.parseDouble(parts[0]), Long.parseLong(parts[1]), page);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+        return CursorPage.of(games, pageSize, game -> CursorCodec.encode(String.valueOf(game.getBayesianScore()),
+                String.valueOf(game.getGameId())));
+    }
+}
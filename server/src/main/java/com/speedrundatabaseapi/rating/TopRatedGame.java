@@ -0,0 +1,57 @@
+package com.speedrundatabaseapi.rating;
+
+/**
+ * Entry of the list of top rated games.
+ *
+ * <p>Games are ranked by their Bayesian score rather than by their plain average rating, so a game with a few
+ * enthusiastic ratings does not outrank a game rated highly by many users.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see GameRatingStatisticsService
+ */
+public class TopRatedGame {
+
+    private final long gameId;
+    private final String name;
+    private final Double averageRating;
+    private final long ratingCount;
+    private final double bayesianScore;
+
+    /**
+     * Parameterized constructor for the TopRatedGame class.
+     *
+     * @param gameId        The ID of the game.
+     * @param name          The name of the game.
+     * @param averageRating The plain average rating of the game.
+     * @param ratingCount   The number of ratings of the game.
+     * @param bayesianScore The Bayesian score the game is ranked by.
+     */
+    public TopRatedGame(long gameId, String name, Double averageRating, long ratingCount, double bayesianScore) {
+        this.gameId = gameId;
+        this.name = name;
+        this.averageRating = averageRating;
+        this.ratingCount = ratingCount;
+        this.bayesianScore = bayesianScore;
+    }
+
+    public long getGameId() {
+        return gameId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Double getAverageRating() {
+        return averageRating;
+    }
+
+    public long getRatingCount() {
+        return ratingCount;
+    }
+
+    public double getBayesianScore() {
+        return bayesianScore;
+    }
+}
@@ -0,0 +1,250 @@
+package com.speedrundatabaseapi.run;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Sorted index of the runs competing on a single leaderboard.
+ *
+ * <p>The runs are kept in a treap (randomized balanced binary search tree) whose nodes also store the
+ * size of their subtree. The sizes turn the tree into an order-statistic tree: inserting, removing,
+ * finding the run at a given position and counting runs faster than a given time all take
+ * O(log n) expected time, which also makes rank lookups of
+ * existing runs and of hypothetical times O(log n).</p>
+ *
+ * <p>Runs are ordered by time, then by submission date (earlier submission wins a tie) and finally
+ * by run ID. Access is guarded by a read-write lock, so pages can be read concurrently.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see LeaderboardService
+ */
+class Leaderboard {
+
+    static final Comparator<LeaderboardEntry> ORDER = Comparator
+            .comparing(LeaderboardEntry::getTime)
+            .thenComparing(LeaderboardEntry::getDate, Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparingLong(LeaderboardEntry::getRunId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root;
+
+    /**
+     * Adds a run to the leaderboard.
+     *
+     * @param entry The run to add; it must not be on the leaderboard yet.
+     */
+    void add(LeaderboardEntry entry) {
+        lock.writeLock().lock();
+        try {
+            root = insert(root, new Node(entry, ThreadLocalRandom.current().nextInt()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a run from the leaderboard.
+     *
+     * @param entry The run to remove, as it was added.
+     */
+    void remove(LeaderboardEntry entry) {
+        lock.writeLock().lock();
+        try {
+            root = remove(root, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of runs on the leaderboard.
+     *
+     * @return The number of runs.
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reads a page of the leaderboard.
+     *
+     * <p>Runs with equal times share the same rank, which is one more than the number of strictly
+     * faster runs.</p>
+     *
+     * @param offset The zero-based position of the first run on the page.
+     * @param limit  The maximum number of runs on the page.
+     * @return The page of ranked runs together with the total number of runs.
+     */
+    LeaderboardPage page(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            int total = size(root);
+            List<RankedRun> runs = new ArrayList<>();
+            for (int position = offset; position < total && runs.size() < limit; position++) {
+                LeaderboardEntry entry = select(position);
+                runs.add(new RankedRun(countFasterThan(entry.getTime()) + 1, entry));
+            }
+            return new LeaderboardPage(total, offset, runs);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Computes where the given time places on the leaderboard.
+     *
+     * @param time   The time to place.
+     * @param ranked True if a run with this time is on the leaderboard.
+     * @return The rank and percentile of the time.
+     */
+    RunRank rankOf(Duration time, boolean ranked) {
+        lock.readLock().lock();
+        try {
+            int total = size(root);
+            int faster = countFasterThan(time);
+            double percentile = total == 0 ? 100.0 : Math.round(10000.0 * (total - faster) / total) / 100.0;
+            return new RunRank(faster + 1, total, percentile, ranked);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private LeaderboardEntry select(int position) {
+        Node node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (position < leftSize) {
+                node = node.left;
+            } else if (position == leftSize) {
+                return node.entry;
+            } else {
+                position -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        throw new IndexOutOfBoundsException("Leaderboard position out of range");
+    }
+
+    private int countFasterThan(Duration time) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.entry.getTime().compareTo(time) < 0) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    private static Node insert(Node node, Node created) {
+        if (node == null) {
+            return created;
+        }
+        if (created.priority > node.priority) {
+            Node[] parts = split(node, created.entry);
+            created.left = parts[0];
+            created.right = parts[1];
+            update(created);
+            return created;
+        }
+        if (ORDER.compare(created.entry, node.entry) < 0) {
+            node.left = insert(node.left, created);
+        } else {
+            node.right = insert(node.right, created);
+        }
+        update(node);
+        return node;
+    }
+
+    private static Node remove(Node node, LeaderboardEntry entry) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = ORDER.compare(entry, node.entry);
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        }
+        if (comparison < 0) {
+            node.left = remove(node.left, entry);
+        } else {
+            node.right = remove(node.right, entry);
+        }
+        update(node);
+        return node;
+    }
+
+    /**
+     * Splits a subtree into the nodes ordered before the key and the remaining nodes.
+     */
+    private static Node[] split(Node node, LeaderboardEntry key) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (ORDER.compare(node.entry, key) < 0) {
+            Node[] parts = split(node.right, key);
+            node.right = parts[0];
+            update(node);
+            return new Node[]{node, parts[1]};
+        }
+        Node[] parts = split(node.left, key);
+        node.left = parts[1];
+        update(node);
+        return new Node[]{parts[0], node};
+    }
+
+    /**
+     * Merges two subtrees, where every node of the first one is ordered before the second one.
+     */
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            update(first);
+            return first;
+        }
+        second.left = merge(first, second.left);
+        update(second);
+        return second;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static final class Node {
+        private final LeaderboardEntry entry;
+        private final int priority;
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(LeaderboardEntry entry, int priority) {
+            this.entry = entry;
+            this.priority = priority;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.speedrundatabaseapi.run;
+
+import com.speedrundatabaseapi.pagination.CursorPage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Controller class for handling HTTP requests related to leaderboards in the Speedrun Database API.
+ *
+ * <p>Leaderboards are served from memory by the {@link LeaderboardService}; a leaderboard contains the
+ * confirmed runs of a game in a single type (category) on a single platform, fastest first.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see LeaderboardService
+ */
+@RestController
+@RequestMapping(path = "speedruns/api/games/{gameId}/leaderboard")
+public class LeaderboardController {
+
+    private final Logger logger = LoggerFactory.getLogger(LeaderboardController.class);
+    private final LeaderboardService leaderboardService;
+
+    /**
+     * Constructor for LeaderboardController, injecting dependencies.
+     *
+     * @param leaderboardService The LeaderboardService serving the leaderboards.
+     */
+    @Autowired
+    public LeaderboardController(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    /**
+     * Endpoint for retrieving a page of a leaderboard.
+     *
+     * @param gameId     The ID of the game.
+     * @param type       The type (category) of the runs.
+     * @param platformId The ID of the platform.
+     * @param offset     The zero-based position of the first run on the page.
+     * @param limit      The maximum number of runs on the page.
+     * @return ResponseEntity containing the page of ranked runs or an error message.
+     */
+    @GetMapping
+    public ResponseEntity<?> getLeaderboard(
+            @PathVariable long gameId,
+            @RequestParam String type,
+            @RequestParam long platformId,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(required = false) Integer limit
+    ) {
+        try {
+            if (offset < 0) {
+                throw new IllegalArgumentException("Offset must not be negative");
+            }
+            LeaderboardKey key = new LeaderboardKey(gameId, type, platformId);
+            LeaderboardPage page = leaderboardService.getLeaderboardPage(key, offset, CursorPage.normalizeLimit(limit));
+            logger.info("Leaderboard fetched successfully");
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error occurred while getting leaderboard");
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error while getting leaderboard");
+        }
+    }
+
+    /**
+     * Endpoint for computing the rank a hypothetical time would get on a leaderboard.
+     *
+     * @param gameId     The ID of the game.
+     * @param type       The type (category) of the runs.
+     * @param platformId The ID of the platform.
+     * @param time       The time in ISO-8601 duration format, e.g. PT25M19S.
+     * @return ResponseEntity containing the rank and percentile or an error message.
+     */
+    @GetMapping(path = "/rank")
+    public ResponseEntity<?> getTimeRank(
+            @PathVariable long gameId,
+            @RequestParam String type,
+            @RequestParam long platformId,
+            @RequestParam String time
+    ) {
+        try {
+            LeaderboardKey key = new LeaderboardKey(gameId, type, platformId);
+            RunRank rank = leaderboardService.getTimeRank(key, Duration.parse(time));
+            logger.info("Time rank computed successfully");
+            return ResponseEntity.ok(rank);
+        } catch (DateTimeParseException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Time must be an ISO-8601 duration, e.g. PT25M19S");
+        } catch (Exception e) {
+            logger.error("Error occurred while computing time rank");
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error while computing time rank");
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.speedrundatabaseapi.run;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Immutable snapshot of a confirmed run held by the in-memory leaderboards.
+ *
+ * <p>The snapshot contains everything needed to serve leaderboard pages, so the read path never has
+ * to touch the database.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see LeaderboardService
+ */
+public class LeaderboardEntry {
+
+    private final long runId;
+    private final long userId;
+    private final long gameId;
+    private final String type;
+    private final long platformId;
+    private final Duration time;
+    private final LocalDateTime date;
+    private final String videoLink;
+
+    /**
+     * Parameterized constructor for the LeaderboardEntry class.
+     *
+     * @param runId      The ID of the run.
+     * @param userId     The ID of the user who performed the run.
+     * @param gameId     The ID of the game.
+     * @param type       The type (category) of the run.
+     * @param platformId The ID of the platform.
+     * @param time       The duration of the run.
+     * @param date       The submission date of the run.
+     * @param videoLink  The link to the video of the run.
+     */
+    public LeaderboardEntry(long runId, long userId, long gameId, String type, long platformId,
+                            Duration time, LocalDateTime date, String videoLink) {
+        this.runId = runId;
+        this.userId = userId;
+        this.gameId = gameId;
+        this.type = type;
+        this.platformId = platformId;
+        this.time = time;
+        this.date = date;
+        this.videoLink = videoLink;
+    }
+
+    /**
+     * Creates a snapshot of the given run.
+     *
+     * @param run The run, with its user, game and platform set.
+     * @return The snapshot of the run.
+     */
+    public static LeaderboardEntry of(Run run) {
+        return new LeaderboardEntry(run.getRunId(), run.getUser().getUserId(), run.getGame().getGameId(),
+                run.getType(), run.getPlatform().getPlatformId(), run.getTime(), run.getDate(), run.getVideoLink());
+    }
+
+    /**
+     * Gets the key of the leaderboard this run competes on.
+     *
+     * @return The leaderboard key.
+     */
+    public LeaderboardKey getKey() {
+        return new LeaderboardKey(gameId, type, platformId);
+    }
+
+    public long getRunId() {
+        return runId;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public long getGameId() {
+        return gameId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public long getPlatformId() {
+        return platformId;
+    }
+
+    public Duration getTime() {
+        return time;
+    }
+
+    public LocalDateTime getDate() {
+        return date;
+    }
+
+    public String getVideoLink() {
+        return videoLink;
+    }
+}
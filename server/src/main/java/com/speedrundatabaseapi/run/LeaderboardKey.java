@@ -0,0 +1,61 @@
+package com.speedrundatabaseapi.run;
+
+import java.util.Objects;
+
+/**
+ * Identifier of a leaderboard in the Speedrun Database API.
+ *
+ * <p>Runs compete only with runs of the same game, type (category) and platform, so a leaderboard is
+ * identified by the combination of these three values.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see LeaderboardService
+ */
+public class LeaderboardKey {
+
+    private final long gameId;
+    private final String type;
+    private final long platformId;
+
+    /**
+     * Parameterized constructor for the LeaderboardKey class.
+     *
+     * @param gameId     The ID of the game.
+     * @param type       The type (category) of the runs.
+     * @param platformId The ID of the platform.
+     */
+    public LeaderboardKey(long gameId, String type, long platformId) {
+        this.gameId = gameId;
+        this.type = type;
+        this.platformId = platformId;
+    }
+
+    public long getGameId() {
+        return gameId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public long getPlatformId() {
+        return platformId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LeaderboardKey that)) {
+            return false;
+        }
+        return gameId == that.gameId && platformId == that.platformId && Objects.equals(type, that.type);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(gameId, type, platformId);
+    }
+}
@@ -0,0 +1,42 @@
+package com.speedrundatabaseapi.run;
+
+import java.util.List;
+
+/**
+ * A page of ranked runs read from a leaderboard.
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see LeaderboardService
+ */
+public class LeaderboardPage {
+
+    private final int total;
+    private final int offset;
+    private final List<RankedRun> runs;
+
+    /**
+     * Parameterized constructor for the LeaderboardPage class.
+     *
+     * @param total  The total number of runs on the leaderboard.
+     * @param offset The zero-based position of the first run on the page.
+     * @param runs   The ranked runs on the page.
+     */
+    public LeaderboardPage(int total, int offset, List<RankedRun> runs) {
+        this.total = total;
+        this.offset = offset;
+        this.runs = runs;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public List<RankedRun> getRuns() {
+        return runs;
+    }
+}
@@ -0,0 +1,176 @@
+package com.speedrundatabaseapi.run;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Service class maintaining in-memory leaderboards of confirmed runs.
+ *
+ * <p>A sorted {@link Leaderboard} is kept per game, type and platform. The leaderboards are built
+ * from the database once the application starts and are then updated incrementally by
+ * {@link RunService} whenever a run is added, changed, confirmed or deleted. Reading a page of a
+ * leaderboard or ranking a confirmed run never touches the database.</p>
+ *
+ * <p>Only confirmed runs are ranked. Changes made inside a transaction are applied to the
+ * leaderboards after the transaction commits, so rolled back changes are never visible.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see Leaderboard
+ */
+@Service
+public class LeaderboardService {
+
+    private final Logger logger = LoggerFactory.getLogger(LeaderboardService.class);
+    private final RunRepository runRepository;
+    private final Map<LeaderboardKey, Leaderboard> leaderboards = new ConcurrentHashMap<>();
+    private final Map<Long, LeaderboardEntry> entriesByRunId = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for the LeaderboardService class.
+     *
+     * @param runRepository The repository for accessing runs.
+     */
+    @Autowired
+    public LeaderboardService(RunRepository runRepository) {
+        this.runRepository = runRepository;
+    }
+
+    /**
+     * Builds the leaderboards from all confirmed runs stored in the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void loadLeaderboards() {
+        leaderboards.clear();
+        entriesByRunId.clear();
+        try (Stream<LeaderboardEntry> entries = runRepository.streamConfirmedLeaderboardEntries()) {
+            entries.forEach(this::add);
+        }
+        logger.info("Loaded " + entriesByRunId.size() + " runs into " + leaderboards.size() + " leaderboards");
+    }
+
+    /**
+     * Reads a page of a leaderboard.
+     *
+     * @param key    The key of the leaderboard.
+     * @param offset The zero-based position of the first run on the page.
+     * @param limit  The maximum number of runs on the page.
+     * @return The page of ranked runs; empty if nobody has a confirmed run on the leaderboard.
+     */
+    public LeaderboardPage getLeaderboardPage(LeaderboardKey key, int offset, int limit) {
+        Leaderboard leaderboard = leaderboards.get(key);
+        if (leaderboard == null) {
+            return new LeaderboardPage(0, offset, List.of());
+        }
+        return leaderboard.page(offset, limit);
+    }
+
+    /**
+     * Computes the rank and percentile of an existing run.
+     *
+     * <p>Confirmed runs are ranked from memory. For an unconfirmed run the placement its time would
+     * get is returned, which requires loading the run from the database.</p>
+     *
+     * @param runId The ID of the run.
+     * @return The rank of the run.
+     * @throws EntityNotFoundException If the run with the given ID is not found.
+     */
+    public RunRank getRunRank(long runId) {
+        LeaderboardEntry entry = entriesByRunId.get(runId);
+        if (entry != null) {
+            return rankOf(entry.getKey(), entry.getTime(), true);
+        }
+        Run run = runRepository.findById(runId).orElseThrow(() -> new EntityNotFoundException("Run with id " + runId + " not found"));
+        if (run.getTime() == null) {
+            throw new IllegalArgumentException("Run with id " + runId + " has no time");
+        }
+        LeaderboardKey key = new LeaderboardKey(run.getGame().getGameId(), run.getType(), run.getPlatform().getPlatformId());
+        return rankOf(key, run.getTime(), false);
+    }
+
+    /**
+     * Computes the rank and percentile a hypothetical time would get on a leaderboard.
+     *
+     * @param key  The key of the leaderboard.
+     * @param time The hypothetical time.
+     * @return The rank the time would get.
+     */
+    public RunRank getTimeRank(LeaderboardKey key, Duration time) {
+        return rankOf(key, time, false);
+    }
+
+    private RunRank rankOf(LeaderboardKey key, Duration time, boolean ranked) {
+        Leaderboard leaderboard = leaderboards.get(key);
+        if (leaderboard == null) {
+            return new RunRank(1, 0, 100.0, ranked);
+        }
+        return leaderboard.rankOf(time, ranked);
+    }
+
+    /**
+     * Updates the leaderboards after a run was added, changed or confirmed.
+     *
+     * @param run The saved run, with its user, game and platform set.
+     */
+    public void onRunSaved(Run run) {
+        LeaderboardEntry entry = run.getConfirmedBy() != 0 && run.getTime() != null ? LeaderboardEntry.of(run) : null;
+        long runId = run.getRunId();
+        afterCommit(() -> replace(runId, entry));
+    }
+
+    /**
+     * Updates the leaderboards after a run was deleted.
+     *
+     * @param runId The ID of the deleted run.
+     */
+    public void onRunDeleted(long runId) {
+        afterCommit(() -> replace(runId, null));
+    }
+
+    private synchronized void replace(long runId, LeaderboardEntry entry) {
+        LeaderboardEntry previous = entriesByRunId.remove(runId);
+        if (previous != null) {
+            // a leaderboard whose last run is removed is dropped, so categories without runs do not pile up
+            leaderboards.computeIfPresent(previous.getKey(), (key, leaderboard) -> {
+                leaderboard.remove(previous);
+                return leaderboard.size() == 0 ? null : leaderboard;
+            });
+        }
+        if (entry != null) {
+            add(entry);
+        }
+    }
+
+    private void add(LeaderboardEntry entry) {
+        entriesByRunId.put(entry.getRunId(), entry);
+        leaderboards.computeIfAbsent(entry.getKey(), key -> new Leaderboard()).add(entry);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.speedrundatabaseapi.run;
+
+import jakarta.persistence.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing the personal best of a runner in the Speedrun Database API.
+ *
+ * <p>The personal_best table is a projection of the run table holding the fastest confirmed run of every
+ * user per game, type (category) and platform. It is maintained by the {@link PersonalBestService} on
+ * every change of a run, so profile pages read personal bests with a single indexed lookup instead of
+ * scanning the whole run history of a user.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see PersonalBestKey
+ * @see PersonalBestService
+ */
+@Entity
+@Table(name = "personal_best",
+        indexes = @Index(name = "personal_best_user_idx", columnList = "user_id, game_id, type, platform_id"))
+public class PersonalBest {
+
+    @EmbeddedId
+    private PersonalBestKey id;
+
+    @Column(name = "run_id", nullable = false)
+    private long runId;
+
+    @Column(name = "time", nullable = false)
+    private Duration time;
+
+    @Column(name = "date")
+    private LocalDateTime date;
+
+    /**
+     * Default constructor for the PersonalBest class.
+     */
+    public PersonalBest() {
+    }
+
+    /**
+     * Parameterized constructor for the PersonalBest class.
+     *
+     * @param id    The composite key of the personal best.
+     * @param runId The ID of the fastest run.
+     * @param time  The time of the fastest run.
+     * @param date  The date of the fastest run.
+     */
+    public PersonalBest(PersonalBestKey id, long runId, Duration time, LocalDateTime date) {
+        this.id = id;
+        this.runId = runId;
+        this.time = time;
+        this.date = date;
+    }
+
+    public long getUserId() {
+        return id.getUserId();
+    }
+
+    public long getGameId() {
+        return id.getGameId();
+    }
+
+    public String getType() {
+        return id.getType();
+    }
+
+    public long getPlatformId() {
+        return id.getPlatformId();
+    }
+
+    public long getRunId() {
+        return runId;
+    }
+
+    public Duration getTime() {
+        return time;
+    }
+
+    public LocalDateTime getDate() {
+        return date;
+    }
+}
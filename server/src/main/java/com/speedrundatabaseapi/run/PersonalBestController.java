@@ -0,0 +1,64 @@
+package com.speedrundatabaseapi.run;
+
+import com.speedrundatabaseapi.pagination.CursorPage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller class for handling HTTP requests related to personal bests in the Speedrun Database API.
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see PersonalBestService
+ */
+@RestController
+@RequestMapping(path = "speedruns/api/users/{userId}/personal-bests")
+public class PersonalBestController {
+
+    private final Logger logger = LoggerFactory.getLogger(PersonalBestController.class);
+    private final PersonalBestService personalBestService;
+
+    /**
+     * Constructor for PersonalBestController, injecting dependencies.
+     *
+     * @param personalBestService The PersonalBestService maintaining the personal bests.
+     */
+    @Autowired
+    public PersonalBestController(PersonalBestService personalBestService) {
+        this.personalBestService = personalBestService;
+    }
+
+    /**
+     * Endpoint for retrieving a page of personal bests of a user.
+     *
+     * @param userId The ID of the user.
+     * @param gameId The ID of the game to restrict the page to (optional).
+     * @param cursor The continuation token returned with the previous page (optional).
+     * @param limit  The page size (optional).
+     * @return ResponseEntity containing the page of personal bests or an error message.
+     */
+    @GetMapping()
+    public ResponseEntity<?> getPersonalBests(
+            @PathVariable long userId,
+            @RequestParam(required = false) Long gameId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        try {
+            CursorPage<PersonalBest> page = personalBestService.getPersonalBests(userId, gameId, cursor, limit);
+            logger.info("Personal bests fetched successfully");
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error occurred while getting personal bests");
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error while getting personal bests");
+        }
+    }
+}
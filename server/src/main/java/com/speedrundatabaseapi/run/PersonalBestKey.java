@@ -0,0 +1,125 @@
+package com.speedrundatabaseapi.run;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Composite key class for the PersonalBest entity.
+ *
+ * <p>A runner has one personal best per game, type (category) and platform, so the key is the
+ * combination of the user with these three values.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see PersonalBest
+ */
+@Embeddable
+public class PersonalBestKey implements Serializable {
+
+    /** The ID of the user. */
+    @Column(name = "user_id")
+    private long userId;
+
+    /** The ID of the game. */
+    @Column(name = "game_id")
+    private long gameId;
+
+    /** The type (category) of the runs. */
+    @Column(name = "type")
+    private String type;
+
+    /** The ID of the platform. */
+    @Column(name = "platform_id")
+    private long platformId;
+
+    /**
+     * Default constructor for PersonalBestKey.
+     */
+    public PersonalBestKey() {
+    }
+
+    /**
+     * Parameterized constructor for PersonalBestKey.
+     *
+     * @param userId     The ID of the user.
+     * @param gameId     The ID of the game.
+     * @param type       The type (category) of the runs.
+     * @param platformId The ID of the platform.
+     */
+    public PersonalBestKey(long userId, long gameId, String type, long platformId) {
+        this.userId = userId;
+        this.gameId = gameId;
+        this.type = type;
+        this.platformId = platformId;
+    }
+
+    /**
+     * Creates the key of the personal best the given run competes for.
+     *
+     * @param run The run.
+     * @return The key, or null if the run lacks a user, game, type or platform.
+     */
+    public static PersonalBestKey of(Run run) {
+        if (run.getUser() == null || run.getGame() == null || run.getType() == null || run.getPlatform() == null) {
+            return null;
+        }
+        return new PersonalBestKey(run.getUser().getUserId(), run.getGame().getGameId(), run.getType(),
+                run.getPlatform().getPlatformId());
+    }
+
+    /**
+     * Get the ID of the user.
+     *
+     * @return The ID of the user.
+     */
+    public long getUserId() {
+        return userId;
+    }
+
+    /**
+     * Get the ID of the game.
+     *
+     * @return The ID of the game.
+     */
+    public long getGameId() {
+        return gameId;
+    }
+
+    /**
+     * Get the type (category) of the runs.
+     *
+     * @return The type of the runs.
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Get the ID of the platform.
+     *
+     * @return The ID of the platform.
+     */
+    public long getPlatformId() {
+        return platformId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PersonalBestKey other)) {
+            return false;
+        }
+        return userId == other.userId && gameId == other.gameId && platformId == other.platformId
+                && Objects.equals(type, other.type);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, gameId, type, platformId);
+    }
+}
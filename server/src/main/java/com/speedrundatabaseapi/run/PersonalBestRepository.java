@@ -0,0 +1,68 @@
+package com.speedrundatabaseapi.run;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for accessing and managing {@link PersonalBest} entities.
+ *
+ * <p>Pages of personal bests are read in key order with keyset pagination, which is served by the
+ * personal_best_user_idx index.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see PersonalBest
+ */
+@Repository
+public interface PersonalBestRepository extends JpaRepository<PersonalBest, PersonalBestKey> {
+
+    /**
+     * Retrieves the first page of personal bests of a user.
+     *
+     * @param userId   The ID of the user.
+     * @param gameId   The ID of the game to restrict the page to, or null for all games.
+     * @param pageable The page size.
+     * @return The personal bests ordered by game, type and platform.
+     */
+    @Query("select pb from PersonalBest pb where pb.id.userId = :userId and (:gameId is null or pb.id.gameId = :gameId) " +
+            "order by pb.id.gameId, pb.id.type, pb.id.platformId")
+    List<PersonalBest> findFirstPage(@Param("userId") long userId, @Param("gameId") Long gameId, Pageable pageable);
+
+    /**
+     * Retrieves the page of personal bests of a user following the given key.
+     *
+     * @param userId          The ID of the user.
+     * @param gameId          The ID of the game to restrict the page to, or null for all games.
+     * @param afterGameId     The game ID of the last personal best on the previous page.
+     * @param afterType       The type of the last personal best on the previous page.
+     * @param afterPlatformId The platform ID of the last personal best on the previous page.
+     * @param pageable        The page size.
+     * @return The personal bests ordered by game, type and platform.
+     */
+    @Query("select pb from PersonalBest pb where pb.id.userId = :userId and (:gameId is null or pb.id.gameId = :gameId) " +
+            "and (pb.id.gameId > :afterGameId or (pb.id.gameId = :afterGameId and (pb.id.type > :afterType " +
+            "or (pb.id.type = :afterType and pb.id.platformId > :afterPlatformId)))) " +
+            "order by pb.id.gameId, pb.id.type, pb.id.platformId")
+    List<PersonalBest> findPageAfter(@Param("userId") long userId, @Param("gameId") Long gameId,
+                                     @Param("afterGameId") long afterGameId, @Param("afterType") String afterType,
+                                     @Param("afterPlatformId") long afterPlatformId, Pageable pageable);
+
+    /**
+     * Fills the personal_best table from the run table in a single statement.
+     *
+     * @return The number of personal bests inserted.
+     */
+    @Modifying
+    @Query(value = "insert into {h-schema}personal_best (user_id, game_id, type, platform_id, run_id, time, date) " +
+            "select distinct on (user_id, game_id, type, platform_id) user_id, game_id, type, platform_id, run_id, time, date " +
+            "from {h-schema}run where confirmed_by <> 0 and time is not null and user_id is not null " +
+            "and game_id is not null and type is not null and platform_id is not null " +
+            "order by user_id, game_id, type, platform_id, time, date nulls last, run_id", nativeQuery = true)
+    int rebuild();
+}
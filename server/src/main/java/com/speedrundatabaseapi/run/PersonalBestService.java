@@ -0,0 +1,177 @@
+package com.speedrundatabaseapi.run;
+
+import com.speedrundatabaseapi.pagination.CursorCodec;
+import com.speedrundatabaseapi.pagination.CursorPage;
+import com.speedrundatabaseapi.user.UserStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Service class maintaining the personal bests of runners in the Speedrun Database API.
+ *
+ * <p>The personal_best table is updated in the same transaction as the run it derives from. After a run
+ * is added, edited, confirmed or deleted, the personal best of every key the run belonged to before and
+ * after the change is recomputed with a single indexed query, so the table never needs a full rebuild.
+ * The table is only filled from the run table when it is found empty at startup.</p>
+ *
+ * <p>Before a key is recomputed, a transaction-level advisory lock on the key is taken, so concurrent changes
+ * to runs of the same key are recomputed one after another and each sees the runs committed by the others.
+ * Several keys are locked in the order of their lock IDs, so concurrent changes cannot deadlock.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see PersonalBest
+ * @see RunService
+ */
+@Service
+public class PersonalBestService {
+
+    /** The first half of the advisory lock IDs of personal best keys, telling them apart from other locks. */
+    private static final int LOCK_NAMESPACE = 0x5042;
+
+    private final Logger logger = LoggerFactory.getLogger(PersonalBestService.class);
+    private final PersonalBestRepository personalBestRepository;
+    private final RunRepository runRepository;
+    private final UserStatsService userStatsService;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor for the PersonalBestService class.
+     *
+     * @param personalBestRepository The repository for accessing personal bests.
+     * @param runRepository          The repository for accessing runs.
+     * @param userStatsService       The service maintaining the personal best counts of users.
+     * @param jdbcTemplate           The JdbcTemplate used to lock personal best keys.
+     */
+    @Autowired
+    public PersonalBestService(PersonalBestRepository personalBestRepository, RunRepository runRepository,
+                               UserStatsService userStatsService, JdbcTemplate jdbcTemplate) {
+        this.personalBestRepository = personalBestRepository;
+        this.runRepository = runRepository;
+        this.userStatsService = userStatsService;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Fills the personal_best table from the existing runs if it is empty.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (personalBestRepository.count() == 0) {
+            int inserted = personalBestRepository.rebuild();
+            logger.info("Personal bests rebuilt, " + inserted + " entries");
+        }
+    }
+
+    /**
+     * Retrieves a page of personal bests of a user, ordered by game, type and platform.
+     *
+     * @param userId The ID of the user.
+     * @param gameId The ID of the game to restrict the page to, or null for all games.
+     * @param cursor The continuation token returned with the previous page, or null for the first page.
+     * @param limit  The requested page size, or null for the default page size.
+     * @return The page of personal bests.
+     * @throws IllegalArgumentException If the cursor or the page size is invalid.
+     */
+    public CursorPage<PersonalBest> getPersonalBests(long userId, Long gameId, String cursor, Integer limit) {
+        int pageSize = CursorPage.normalizeLimit(limit);
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        List<PersonalBest> personalBests;
+        if (cursor == null) {
+            personalBests = personalBestRepository.findFirstPage(userId, gameId, page);
+        } else {
+            String[] parts = CursorCodec.decode(cursor, 3);
+            try {
+                personalBests = personalBestRepository.findPageAfter(userId, gameId, Long.parseLong(parts[0]), parts[1],
+                        Long.parseLong(parts[2]), page);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+        return CursorPage.of(personalBests, pageSize, pb -> CursorCodec.encode(String.valueOf(pb.getGameId()),
+                pb.getType(), String.valueOf(pb.getPlatformId())));
+    }
+
+    /**
+     * Updates the personal bests after a run was added, edited or confirmed.
+     *
+     * @param previousKey The key the run belonged to before the change, or null for a new run.
+     * @param run         The run after the change.
+     */
+    public void onRunSaved(PersonalBestKey previousKey, Run run) {
+        Set<PersonalBestKey> keys = new LinkedHashSet<>();
+        if (previousKey != null) {
+            keys.add(previousKey);
+        }
+        PersonalBestKey key = PersonalBestKey.of(run);
+        if (key != null) {
+            keys.add(key);
+        }
+        recompute(keys);
+    }
+
+    /**
+     * Updates the personal bests after many runs were confirmed at once, recomputing every affected key once.
+     *
+     * @param runs The confirmed runs.
+     */
+    public void onRunsSaved(Collection<Run> runs) {
+        Set<PersonalBestKey> keys = new LinkedHashSet<>();
+        for (Run run : runs) {
+            PersonalBestKey key = PersonalBestKey.of(run);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        recompute(keys);
+    }
+
+    /**
+     * Updates the personal bests after a run was deleted.
+     *
+     * @param run The deleted run.
+     */
+    public void onRunDeleted(Run run) {
+        PersonalBestKey key = PersonalBestKey.of(run);
+        if (key != null) {
+            recompute(Set.of(key));
+        }
+    }
+
+    private void recompute(Collection<PersonalBestKey> keys) {
+        keys.stream().mapToInt(PersonalBestKey::hashCode).distinct().sorted().forEach(lockId ->
+                jdbcTemplate.queryForObject("select 1 from pg_advisory_xact_lock(?, ?)", Integer.class,
+                        LOCK_NAMESPACE, lockId));
+        keys.forEach(this::recompute);
+    }
+
+    private void recompute(PersonalBestKey key) {
+        Optional<LeaderboardEntry> best = runRepository.findPersonalBest(key.getUserId(), key.getGameId(),
+                key.getType(), key.getPlatformId());
+        boolean exists = personalBestRepository.existsById(key);
+        if (best.isPresent()) {
+            LeaderboardEntry entry = best.get();
+            personalBestRepository.save(new PersonalBest(key, entry.getRunId(), entry.getTime(), entry.getDate()));
+            if (!exists) {
+                userStatsService.onPersonalBestsChanged(key.getUserId(), 1);
+            }
+        } else if (exists) {
+            personalBestRepository.deleteById(key);
+            userStatsService.onPersonalBestsChanged(key.getUserId(), -1);
+        }
+    }
+}
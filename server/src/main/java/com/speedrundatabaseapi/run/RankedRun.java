@@ -0,0 +1,52 @@
+package com.speedrundatabaseapi.run;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * A run together with its rank on a leaderboard.
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see LeaderboardPage
+ */
+public class RankedRun {
+
+    private final int rank;
+    private final LeaderboardEntry entry;
+
+    /**
+     * Parameterized constructor for the RankedRun class.
+     *
+     * @param rank  The one-based rank of the run.
+     * @param entry The ranked run.
+     */
+    public RankedRun(int rank, LeaderboardEntry entry) {
+        this.rank = rank;
+        this.entry = entry;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public long getRunId() {
+        return entry.getRunId();
+    }
+
+    public long getUserId() {
+        return entry.getUserId();
+    }
+
+    public Duration getTime() {
+        return entry.getTime();
+    }
+
+    public LocalDateTime getDate() {
+        return entry.getDate();
+    }
+
+    public String getVideoLink() {
+        return entry.getVideoLink();
+    }
+}
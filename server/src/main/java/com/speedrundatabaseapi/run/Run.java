@@ -15,13 +15,31 @@ import java.time.LocalDateTime;
  *
  * <p>This class is annotated with JPA annotations for entity mapping and includes custom JSON serialization and deserialization annotations.</p>
  *
+ * <p>The composite indexes back the keyset-paginated run listings; every index ends with the run ID,
+ * which is the tie-breaker of all listing orders. The index starting with the user ID serves personal best
+ * lookups.</p>
+ *
+ * <p>The user, game and platform are loaded lazily. Read paths that serialize runs fetch them together with
+ * the runs (see {@link RunRepository#findDetailsByRunId(long)} and {@link RunRepositoryCustom}), so a page
+ * of runs is loaded with a single SQL statement.</p>
+ *
  * @author Paweł Hajdo
  * @version 1.0
  * @see RunCustomSerializer
  * @see RunCustomDeserializer
  */
 @Entity
-@Table
+@Table(indexes = {
+        @Index(name = "run_game_type_platform_time_idx", columnList = "game_id, type, platform_id, time, run_id"),
+        @Index(name = "run_user_game_type_platform_time_idx", columnList = "user_id, game_id, type, platform_id, time, run_id"),
+        @Index(name = "run_game_date_idx", columnList = "game_id, date, run_id"),
+        @Index(name = "run_platform_time_idx", columnList = "platform_id, time, run_id"),
+        @Index(name = "run_confirmed_date_idx", columnList = "confirmed_by, date, run_id"),
+        @Index(name = "run_time_idx", columnList = "time, run_id"),
+        @Index(name = "run_date_idx", columnList = "date, run_id"),
+        @Index(name = "run_user_date_idx", columnList = "user_id, date, run_id"),
+        @Index(name = "run_game_user_idx", columnList = "game_id, user_id")
+})
 @JsonSerialize(using = RunCustomSerializer.class)
 @JsonDeserialize(using = RunCustomDeserializer.class)
 public class Run {
@@ -38,11 +56,11 @@ public class Run {
     @Column(name = "run_id")
     private long runId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "game_id")
     private Game game;
 
@@ -58,7 +76,7 @@ public class Run {
     @Column(name = "date")
     private LocalDateTime date;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "platform_id")
     private Platform platform;
 
@@ -1,22 +1,27 @@
 package com.speedrundatabaseapi.run;
 
-import com.speedrundatabaseapi.platform.Platform;
+import com.speedrundatabaseapi.pagination.CursorPage;
 import com.speedrundatabaseapi.user.User;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Controller class for handling HTTP requests related to runs in the Speedrun Database API.
  *
- * <p>This class defines endpoints for retrieving all runs, getting details of a specific run,
+ * <p>This class defines endpoints for listing runs page by page, getting details of a specific run,
  * adding a new run, updating run details, and deleting a run.</p>
  *
  * @author Paweł Hajdo
@@ -29,25 +34,57 @@ public class RunController {
 
     private final Logger logger = LoggerFactory.getLogger(RunController.class);
     private final RunService runService;
+    private final LeaderboardService leaderboardService;
+    private final RunImportService runImportService;
+    private final RunExportService runExportService;
 
     /**
      * Constructor for RunController, injecting dependencies.
      *
-     * @param runService The RunService for handling business logic related to runs.
+     * @param runService         The RunService for handling business logic related to runs.
+     * @param leaderboardService The LeaderboardService for ranking runs.
+     * @param runImportService   The RunImportService for importing runs in bulk.
+     * @param runExportService   The RunExportService for exporting runs.
      */
     @Autowired
-    public RunController(RunService runService) {
+    public RunController(RunService runService, LeaderboardService leaderboardService,
+                         RunImportService runImportService, RunExportService runExportService) {
         this.runService = runService;
+        this.leaderboardService = leaderboardService;
+        this.runImportService = runImportService;
+        this.runExportService = runExportService;
     }
 
     /**
-     * Endpoint for retrieving a list of all runs.
+     * Endpoint for retrieving a page of runs matching the filter criteria.
      *
-     * @return List of all runs.
+     * @param filter The filter criteria bound from query parameters.
+     * @param sort   The attribute to sort by ("time" or "date").
+     * @param order  The sort direction ("asc" or "desc").
+     * @param cursor The continuation token returned with the previous page.
+     * @param limit  The maximum number of runs on the page.
+     * @return ResponseEntity containing the page of runs or an error message.
      */
     @GetMapping
-    public List<Run> getAllRuns() {
-        return runService.getAllRuns();
+    public ResponseEntity<?> getRuns(
+            RunFilter filter,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String order,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        try {
+            CursorPage<Run> runs = runService.getRuns(filter, RunSort.of(sort, order), cursor, limit);
+            logger.info("Runs fetched successfully");
+            return ResponseEntity.ok(runs);
+        } catch (IllegalArgumentException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error occurred while getting runs");
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error while getting runs");
+        }
     }
 
     /**
@@ -72,6 +109,111 @@ public class RunController {
         }
     }
 
+    /**
+     * Endpoint for retrieving the moderation queue: unconfirmed runs, oldest first.
+     *
+     * @param cursor The continuation token returned with the previous page (optional).
+     * @param limit  The page size (optional).
+     * @return ResponseEntity containing the page of pending runs or an error message.
+     */
+    @GetMapping(path = "/pending")
+    public ResponseEntity<?> getPendingRuns(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        try {
+            CursorPage<Run> page = runService.getPendingRuns(cursor, limit);
+            logger.info("Pending runs fetched successfully");
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error occurred while getting pending runs");
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error while getting pending runs");
+        }
+    }
+
+    /**
+     * Endpoint for confirming or rejecting many pending runs at once.
+     *
+     * @param request The IDs of the runs and the decision about them.
+     * @param admin   The authenticated administrator.
+     * @return ResponseEntity containing the outcome of the moderation or an error message.
+     */
+    @PostMapping(path = "/moderation")
+    public ResponseEntity<?> moderateRuns(
+            @RequestBody RunModerationRequest request,
+            @AuthenticationPrincipal User admin
+    ) {
+        try {
+            RunModerationResult result = runService.moderateRuns(request, admin.getUserId());
+            logger.info("Runs moderated successfully");
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error occurred while moderating runs");
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error while moderating runs");
+        }
+    }
+
+    /**
+     * Endpoint for exporting all runs matching the filter criteria.
+     *
+     * <p>The runs are streamed to the client while they are read from the database.</p>
+     *
+     * @param filter The filter criteria, bound from the query parameters.
+     * @param format The output format, ndjson (default) or csv.
+     * @return ResponseEntity streaming the runs or an error message.
+     */
+    @GetMapping(path = "/export")
+    public ResponseEntity<StreamingResponseBody> exportRuns(RunFilter filter, @RequestParam(required = false) String format) {
+        try {
+            RunExportFormat exportFormat = RunExportFormat.of(format);
+            StreamingResponseBody body = output -> runExportService.exportRuns(filter, exportFormat, output);
+            logger.info("Run export started");
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"runs." + exportFormat.getExtension() + "\"")
+                    .body(body);
+        } catch (IllegalArgumentException e) {
+            logger.info(e.getMessage());
+            byte[] message = e.getMessage().getBytes(StandardCharsets.UTF_8);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .body(output -> output.write(message));
+        }
+    }
+
+    /**
+     * Endpoint for retrieving the rank and percentile of a run on its leaderboard.
+     *
+     * @param runId The ID of the run.
+     * @return ResponseEntity containing the rank of the run or an error message.
+     */
+    @GetMapping(path = "/{runId}/rank")
+    public ResponseEntity<?> getRunRank(@PathVariable long runId) {
+        try {
+            RunRank rank = leaderboardService.getRunRank(runId);
+            logger.info("Run rank computed successfully");
+            return ResponseEntity.ok(rank);
+        } catch (EntityNotFoundException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error occurred while computing run rank");
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error while computing run rank");
+        }
+    }
+
     /**
      * Endpoint for adding a new run.
      *
@@ -91,6 +233,25 @@ public class RunController {
         }
     }
 
+    /**
+     * Endpoint for importing runs in bulk from newline-delimited JSON.
+     *
+     * @param input The request body with one run per line.
+     * @return ResponseEntity containing the summary of the import or an error message.
+     */
+    @PostMapping(path = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<?> importRuns(InputStream input) {
+        try {
+            RunImportResult result = runImportService.importRuns(input);
+            logger.info("Runs imported successfully");
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            logger.error("Error occurred while importing runs");
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error while importing runs");
+        }
+    }
+
     /**
      * Endpoint for updating details of a specific run.
      *
@@ -121,16 +282,16 @@ public class RunController {
      * Endpoint for confirming run.
      *
      * @param runId The ID of the run to be updated.
-     * @param user User confirming run.
+     * @param user The authenticated user confirming run.
      * @return ResponseEntity with success message or an error message.
      */
     @PutMapping(path = "/{runId}/confirm")
     public ResponseEntity<String> confirmRun(
             @PathVariable long runId,
-            @RequestBody User user
+            @AuthenticationPrincipal User user
     ){
         try{
-            runService.confirmRun(runId,user.getUserId());
+            runService.confirmRun(runId, user);
             logger.info("Run confirmed successfully"+ user.getUserId());
             return ResponseEntity.ok("Run confirmed successfully");
         } catch (AccessDeniedException e) {
@@ -0,0 +1,46 @@
+package com.speedrundatabaseapi.run;
+
+/**
+ * Decoded keyset position within a run listing.
+ *
+ * <p>The position consists of the sort key of the last run on the previous page (its time or date)
+ * and the run ID used as a tie-breaker.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see RunSort
+ */
+public class RunCursor {
+
+    private final Object value;
+    private final long runId;
+
+    /**
+     * Parameterized constructor for the RunCursor class.
+     *
+     * @param value The sort key of the last run on the previous page.
+     * @param runId The ID of the last run on the previous page.
+     */
+    public RunCursor(Object value, long runId) {
+        this.value = value;
+        this.runId = runId;
+    }
+
+    /**
+     * Gets the sort key of the last run on the previous page.
+     *
+     * @return The sort key (a Duration or LocalDateTime).
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the ID of the last run on the previous page.
+     *
+     * @return The run ID.
+     */
+    public long getRunId() {
+        return runId;
+    }
+}
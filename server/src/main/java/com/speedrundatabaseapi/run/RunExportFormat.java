@@ -0,0 +1,52 @@
+package com.speedrundatabaseapi.run;
+
+/**
+ * Output formats of the run export.
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see RunExportService
+ */
+public enum RunExportFormat {
+
+    /** Newline-delimited JSON, one run per line. */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /** Comma-separated values with a header line. */
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    RunExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Resolves the export format from a request parameter.
+     *
+     * @param format The name of the format, case-insensitive, or null for NDJSON.
+     * @return The export format.
+     * @throws IllegalArgumentException If the format is not supported.
+     */
+    public static RunExportFormat of(String format) {
+        if (format == null) {
+            return NDJSON;
+        }
+        for (RunExportFormat value : values()) {
+            if (value.extension.equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported export format: " + format);
+    }
+}
@@ -0,0 +1,89 @@
+package com.speedrundatabaseapi.run;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Flat, immutable snapshot of a run used by the run export.
+ *
+ * <p>The snapshot holds only IDs of the referenced user, game and platform, so exporting runs never
+ * loads the related entities.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see RunExportService
+ */
+public class RunExportRow {
+
+    private final long runId;
+    private final Long userId;
+    private final Long gameId;
+    private final Long platformId;
+    private final String type;
+    private final Duration time;
+    private final String videoLink;
+    private final LocalDateTime date;
+    private final long confirmedBy;
+
+    /**
+     * Parameterized constructor for the RunExportRow class.
+     *
+     * @param runId       The ID of the run.
+     * @param userId      The ID of the runner.
+     * @param gameId      The ID of the game.
+     * @param platformId  The ID of the platform.
+     * @param type        The type (category) of the run.
+     * @param time        The time of the run.
+     * @param videoLink   The link to the video of the run.
+     * @param date        The date the run was submitted.
+     * @param confirmedBy The ID of the administrator who confirmed the run, or 0 if not confirmed.
+     */
+    public RunExportRow(long runId, Long userId, Long gameId, Long platformId, String type, Duration time,
+                        String videoLink, LocalDateTime date, long confirmedBy) {
+        this.runId = runId;
+        this.userId = userId;
+        this.gameId = gameId;
+        this.platformId = platformId;
+        this.type = type;
+        this.time = time;
+        this.videoLink = videoLink;
+        this.date = date;
+        this.confirmedBy = confirmedBy;
+    }
+
+    public long getRunId() {
+        return runId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getGameId() {
+        return gameId;
+    }
+
+    public Long getPlatformId() {
+        return platformId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Duration getTime() {
+        return time;
+    }
+
+    public String getVideoLink() {
+        return videoLink;
+    }
+
+    public LocalDateTime getDate() {
+        return date;
+    }
+
+    public long getConfirmedBy() {
+        return confirmedBy;
+    }
+}
@@ -0,0 +1,140 @@
+package com.speedrundatabaseapi.run;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service class for exporting runs from the Speedrun Database.
+ *
+ * <p>Runs are read through a database cursor with a fixed fetch size and every row is written to the
+ * output as soon as it is read, so the memory used by an export is constant regardless of the number
+ * of runs. The filter criteria are the same as in the run listing.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see RunExportFormat
+ */
+@Service
+public class RunExportService {
+
+    private static final String CSV_HEADER = "runId,userId,gameId,platformId,type,time,videoLink,date,confirmedBy";
+
+    private final RunRepository runRepository;
+    private final JsonFactory jsonFactory;
+
+    /**
+     * Constructor for the RunExportService class.
+     *
+     * @param runRepository The repository for accessing runs.
+     * @param objectMapper  The application's ObjectMapper, providing the JSON generator factory.
+     */
+    @Autowired
+    public RunExportService(RunRepository runRepository, ObjectMapper objectMapper) {
+        this.runRepository = runRepository;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Writes all runs matching the filter to the output stream, ordered by run ID.
+     *
+     * @param filter The filter criteria.
+     * @param format The output format.
+     * @param output The stream the runs are written to.
+     * @throws IOException If writing to the output fails.
+     */
+    @Transactional(readOnly = true)
+    public void exportRuns(RunFilter filter, RunExportFormat format, OutputStream output) throws IOException {
+        try (Stream<RunExportRow> rows = runRepository.streamRuns(filter)) {
+            if (format == RunExportFormat.CSV) {
+                writeCsv(rows.iterator(), output);
+            } else {
+                writeNdjson(rows.iterator(), output);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeNdjson(Iterator<RunExportRow> rows, OutputStream output) throws IOException {
+        JsonGenerator generator = jsonFactory.createGenerator(output);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        while (rows.hasNext()) {
+            RunExportRow row = rows.next();
+            generator.writeStartObject();
+            generator.writeNumberField("runId", row.getRunId());
+            writeNumberField(generator, "userId", row.getUserId());
+            writeNumberField(generator, "gameId", row.getGameId());
+            writeNumberField(generator, "platformId", row.getPlatformId());
+            generator.writeStringField("type", row.getType());
+            generator.writeStringField("time", row.getTime() == null ? null : row.getTime().toString());
+            generator.writeStringField("videoLink", row.getVideoLink());
+            generator.writeStringField("date", row.getDate() == null ? null : row.getDate().toString());
+            generator.writeNumberField("confirmedBy", row.getConfirmedBy());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        generator.close();
+    }
+
+    private static void writeNumberField(JsonGenerator generator, String name, Long value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value);
+        }
+    }
+
+    private void writeCsv(Iterator<RunExportRow> rows, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (rows.hasNext()) {
+            RunExportRow row = rows.next();
+            writer.write(String.valueOf(row.getRunId()));
+            writer.write(',');
+            writer.write(csvValue(row.getUserId()));
+            writer.write(',');
+            writer.write(csvValue(row.getGameId()));
+            writer.write(',');
+            writer.write(csvValue(row.getPlatformId()));
+            writer.write(',');
+            writer.write(csvValue(row.getType()));
+            writer.write(',');
+            writer.write(csvValue(row.getTime()));
+            writer.write(',');
+            writer.write(csvValue(row.getVideoLink()));
+            writer.write(',');
+            writer.write(csvValue(row.getDate()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getConfirmedBy()));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,140 @@
+package com.speedrundatabaseapi.run;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filter criteria for listing runs in the Speedrun Database API.
+ *
+ * <p>Every criterion is optional; criteria that are not set do not restrict the listing. The class is
+ * bound from the query parameters of run listing endpoints.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ */
+public class RunFilter {
+
+    private Long gameId;
+    private Long platformId;
+    private String type;
+    private Boolean confirmed;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    /**
+     * Default constructor for the RunFilter class.
+     */
+    public RunFilter() {
+    }
+
+    /**
+     * Gets the ID of the game the runs must belong to.
+     *
+     * @return The game ID, or null if not filtered.
+     */
+    public Long getGameId() {
+        return gameId;
+    }
+
+    /**
+     * Sets the ID of the game the runs must belong to.
+     *
+     * @param gameId The game ID.
+     */
+    public void setGameId(Long gameId) {
+        this.gameId = gameId;
+    }
+
+    /**
+     * Gets the ID of the platform the runs must be performed on.
+     *
+     * @return The platform ID, or null if not filtered.
+     */
+    public Long getPlatformId() {
+        return platformId;
+    }
+
+    /**
+     * Sets the ID of the platform the runs must be performed on.
+     *
+     * @param platformId The platform ID.
+     */
+    public void setPlatformId(Long platformId) {
+        this.platformId = platformId;
+    }
+
+    /**
+     * Gets the type (category) of the runs.
+     *
+     * @return The run type, or null if not filtered.
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Sets the type (category) of the runs.
+     *
+     * @param type The run type.
+     */
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    /**
+     * Gets the confirmation state of the runs.
+     *
+     * @return True for confirmed runs, false for unconfirmed runs, null if not filtered.
+     */
+    public Boolean getConfirmed() {
+        return confirmed;
+    }
+
+    /**
+     * Sets the confirmation state of the runs.
+     *
+     * @param confirmed True for confirmed runs, false for unconfirmed runs.
+     */
+    public void setConfirmed(Boolean confirmed) {
+        this.confirmed = confirmed;
+    }
+
+    /**
+     * Gets the earliest submission date of the runs (inclusive).
+     *
+     * @return The lower date bound, or null if not filtered.
+     */
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    /**
+     * Sets the earliest submission date of the runs (inclusive).
+     *
+     * @param from The lower date bound.
+     */
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    /**
+     * Gets the latest submission date of the runs (exclusive).
+     *
+     * @return The upper date bound, or null if not filtered.
+     */
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    /**
+     * Sets the latest submission date of the runs (exclusive).
+     *
+     * @param to The upper date bound.
+     */
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+}
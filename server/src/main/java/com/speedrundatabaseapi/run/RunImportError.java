@@ -0,0 +1,33 @@
+package com.speedrundatabaseapi.run;
+
+/**
+ * Error of a single line of a bulk run import.
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see RunImportService
+ */
+public class RunImportError {
+
+    private final long line;
+    private final String message;
+
+    /**
+     * Parameterized constructor for the RunImportError class.
+     *
+     * @param line    The one-based number of the rejected line.
+     * @param message The reason the line was rejected.
+     */
+    public RunImportError(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,47 @@
+package com.speedrundatabaseapi.run;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Summary of a bulk run import.
+ *
+ * <p>Only the first {@link #MAX_REPORTED_ERRORS} errors are listed, the counters always cover the whole
+ * import.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see RunImportService
+ */
+public class RunImportResult {
+
+    /** The maximum number of line errors included in the result. */
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private long imported;
+    private long failed;
+    private final List<RunImportError> errors = new ArrayList<>();
+
+    void addImported(int count) {
+        imported += count;
+    }
+
+    void addError(long line, String message) {
+        failed++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RunImportError(line, message));
+        }
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public List<RunImportError> getErrors() {
+        return errors;
+    }
+}
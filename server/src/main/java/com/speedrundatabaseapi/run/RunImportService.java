@@ -0,0 +1,295 @@
+package com.speedrundatabaseapi.run;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.speedrundatabaseapi.game.Game;
+import com.speedrundatabaseapi.platform.Platform;
+import com.speedrundatabaseapi.user.User;
+import com.speedrundatabaseapi.user.UserStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * Service class for importing runs in bulk into the Speedrun Database.
+ *
+ * <p>The import reads newline-delimited JSON, one run per line, with the same fields as the body of
+ * {@code POST /speedruns/api/runs} and an optional ISO-8601 {@code date}. Lines are parsed one at a time
+ * with a streaming parser, so the size of the import does not affect memory use. Parsed runs are written
+ * in batches of {@link #BATCH_SIZE}, and each batch runs in its own transaction:</p>
+ * <ul>
+ *     <li>user, game and platform references of the whole batch are checked with one query per table,
+ *     and every ID found is remembered for the following batches of the same import,</li>
+ *     <li>run IDs for the whole batch are taken from run_sequence in a single round-trip,</li>
+ *     <li>the runs are inserted with a single JDBC batch.</li>
+ * </ul>
+ *
+ * <p>A line that cannot be parsed or references a missing entity is reported with its line number and
+ * skipped, and the rest of the import continues. Imported runs are not confirmed, like runs added one by
+ * one, so they do not affect leaderboards until an administrator confirms them.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see RunImportResult
+ */
+@Service
+public class RunImportService {
+
+    /** The number of runs written per batch. */
+    public static final int BATCH_SIZE = 500;
+
+    private final Logger logger = LoggerFactory.getLogger(RunImportService.class);
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonFactory jsonFactory;
+    private final String schema;
+    private final UserStatsService userStatsService;
+
+    /**
+     * Constructor for the RunImportService class.
+     *
+     * @param jdbcTemplate               The JdbcTemplate used for batched inserts.
+     * @param namedParameterJdbcTemplate The template used for reference lookups.
+     * @param transactionTemplate        The template running every batch in its own transaction.
+     * @param objectMapper               The application's ObjectMapper, providing the JSON parser factory.
+     * @param schema                     The database schema of the application tables.
+     * @param userStatsService           The service maintaining the run counts of users.
+     */
+    @Autowired
+    public RunImportService(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                            TransactionTemplate transactionTemplate, ObjectMapper objectMapper,
+                            @Value("${spring.jpa.properties.hibernate.default_schema}") String schema,
+                            UserStatsService userStatsService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.jsonFactory = objectMapper.getFactory();
+        this.schema = schema;
+        this.userStatsService = userStatsService;
+    }
+
+    /**
+     * Imports runs from newline-delimited JSON.
+     *
+     * @param input The NDJSON input, encoded in UTF-8.
+     * @return The summary of the import.
+     * @throws IOException If reading the input fails.
+     */
+    public RunImportResult importRuns(InputStream input) throws IOException {
+        RunImportResult result = new RunImportResult();
+        Set<Long> knownUserIds = new HashSet<>();
+        Set<Long> knownGameIds = new HashSet<>();
+        Set<Long> knownPlatformIds = new HashSet<>();
+        List<Long> lineNumbers = new ArrayList<>();
+        List<Run> runs = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                runs.add(parseLine(line));
+                lineNumbers.add(lineNumber);
+            } catch (IllegalArgumentException e) {
+                result.addError(lineNumber, e.getMessage());
+            }
+            if (runs.size() == BATCH_SIZE) {
+                writeBatch(lineNumbers, runs, result, knownUserIds, knownGameIds, knownPlatformIds);
+                lineNumbers.clear();
+                runs.clear();
+            }
+        }
+        if (!runs.isEmpty()) {
+            writeBatch(lineNumbers, runs, result, knownUserIds, knownGameIds, knownPlatformIds);
+        }
+        result.getErrors().sort(Comparator.comparingLong(RunImportError::getLine));
+        logger.info("Run import finished, " + result.getImported() + " imported, " + result.getFailed() + " failed");
+        return result;
+    }
+
+    private Run parseLine(String line) {
+        Long userId = null;
+        Long gameId = null;
+        Long platformId = null;
+        Run run = new Run();
+        try (JsonParser parser = jsonFactory.createParser(line)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Line is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                switch (field) {
+                    case "userId" -> userId = parser.getLongValue();
+                    case "gameId" -> gameId = parser.getLongValue();
+                    case "platformId" -> platformId = parser.getLongValue();
+                    case "time" -> {
+                        String time = text(parser, field);
+                        run.setTime(time == null ? null : Duration.parse(time));
+                    }
+                    case "type" -> run.setType(text(parser, field));
+                    case "videoLink" -> run.setVideoLink(text(parser, field));
+                    case "date" -> {
+                        String date = text(parser, field);
+                        run.setDate(date == null ? null : LocalDateTime.parse(date));
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            if (parser.nextToken() != null) {
+                throw new IllegalArgumentException("Unexpected content after the JSON object");
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid time or date: " + e.getParsedString());
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage());
+        }
+        if (userId == null || gameId == null || platformId == null || run.getTime() == null || run.getType() == null) {
+            throw new IllegalArgumentException("userId, gameId, platformId, time and type are required");
+        }
+        User user = new User();
+        user.setUserId(userId);
+        run.setUser(user);
+        Game game = new Game();
+        game.setGameId(gameId);
+        run.setGame(game);
+        Platform platform = new Platform();
+        platform.setPlatformId(platformId);
+        run.setPlatform(platform);
+        if (run.getDate() == null) {
+            run.setDate(LocalDateTime.now());
+        }
+        return run;
+    }
+
+    /**
+     * Reads the current value as text, or null for a JSON null.
+     */
+    private static String text(JsonParser parser, String field) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            throw new IllegalArgumentException(field + " must be a string");
+        }
+        return parser.getValueAsString();
+    }
+
+    private void writeBatch(List<Long> lineNumbers, List<Run> runs, RunImportResult result,
+                            Set<Long> knownUserIds, Set<Long> knownGameIds, Set<Long> knownPlatformIds) {
+        List<RunImportError> errors = new ArrayList<>();
+        List<Run> valid = new ArrayList<>(runs.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                resolve("\"user\"", "user_id", runs, run -> run.getUser().getUserId(), knownUserIds);
+                resolve("game", "game_id", runs, run -> run.getGame().getGameId(), knownGameIds);
+                resolve("platform", "platform_id", runs, run -> run.getPlatform().getPlatformId(), knownPlatformIds);
+
+                for (int i = 0; i < runs.size(); i++) {
+                    String error = missingReference(runs.get(i), knownUserIds, knownGameIds, knownPlatformIds);
+                    if (error == null) {
+                        valid.add(runs.get(i));
+                    } else {
+                        errors.add(new RunImportError(lineNumbers.get(i), error));
+                    }
+                }
+                insert(valid);
+            });
+        } catch (DataAccessException e) {
+            logger.error("Error occurred while importing a batch of runs");
+            e.printStackTrace();
+            for (Long lineNumber : lineNumbers) {
+                result.addError(lineNumber, "Batch could not be written: " + e.getMostSpecificCause().getMessage());
+            }
+            return;
+        }
+        result.addImported(valid.size());
+        errors.forEach(error -> result.addError(error.getLine(), error.getMessage()));
+    }
+
+    private void resolve(String table, String column, List<Run> runs, ToLongFunction<Run> reference, Set<Long> known) {
+        Set<Long> unknown = new HashSet<>();
+        for (Run run : runs) {
+            long id = reference.applyAsLong(run);
+            if (!known.contains(id)) {
+                unknown.add(id);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            String sql = "select " + column + " from " + schema + "." + table + " where " + column + " in (:ids)";
+            known.addAll(namedParameterJdbcTemplate.queryForList(sql, new MapSqlParameterSource("ids", unknown), Long.class));
+        }
+    }
+
+    private static String missingReference(Run run, Set<Long> userIds, Set<Long> gameIds, Set<Long> platformIds) {
+        if (!userIds.contains(run.getUser().getUserId())) {
+            return "User with id " + run.getUser().getUserId() + " not found";
+        }
+        if (!gameIds.contains(run.getGame().getGameId())) {
+            return "Game with id " + run.getGame().getGameId() + " not found";
+        }
+        if (!platformIds.contains(run.getPlatform().getPlatformId())) {
+            return "Platform with id " + run.getPlatform().getPlatformId() + " not found";
+        }
+        return null;
+    }
+
+    private void insert(List<Run> runs) {
+        if (runs.isEmpty()) {
+            return;
+        }
+        List<Long> ids = jdbcTemplate.queryForList(
+                "select nextval('" + schema + ".run_sequence') from generate_series(1, ?)", Long.class, runs.size());
+        List<Object[]> rows = new ArrayList<>(runs.size());
+        for (int i = 0; i < runs.size(); i++) {
+            Run run = runs.get(i);
+            rows.add(new Object[]{
+                    ids.get(i),
+                    run.getUser().getUserId(),
+                    run.getGame().getGameId(),
+                    BigDecimal.valueOf(run.getTime().toNanos()),
+                    run.getType(),
+                    run.getVideoLink(),
+                    Timestamp.valueOf(run.getDate()),
+                    run.getPlatform().getPlatformId()
+            });
+        }
+        jdbcTemplate.batchUpdate("insert into " + schema + ".run (run_id, user_id, game_id, time, type, video_link, date, " +
+                "platform_id, confirmed_by) values (?, ?, ?, ?, ?, ?, ?, ?, 0)", rows);
+        Map<Long, Long> runsByUser = new HashMap<>();
+        runs.forEach(run -> runsByUser.merge(run.getUser().getUserId(), 1L, Long::sum));
+        userStatsService.onRunsAdded(runsByUser);
+    }
+}
@@ -0,0 +1,17 @@
+package com.speedrundatabaseapi.run;
+
+/**
+ * Decisions an administrator can make about pending runs.
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see RunService#moderateRuns(RunModerationRequest, long)
+ */
+public enum RunModerationAction {
+
+    /** Confirms the runs, which puts them on the leaderboards. */
+    CONFIRM,
+
+    /** Rejects the runs, which deletes them. */
+    REJECT
+}
@@ -0,0 +1,52 @@
+package com.speedrundatabaseapi.run;
+
+import java.util.List;
+
+/**
+ * Request body for moderating many pending runs at once.
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see RunService#moderateRuns(RunModerationRequest, long)
+ */
+public class RunModerationRequest {
+
+    /** The maximum number of runs moderated by one request. */
+    public static final int MAX_RUNS = 1000;
+
+    private List<Long> runIds;
+    private RunModerationAction action;
+
+    /**
+     * Default constructor for the RunModerationRequest class.
+     */
+    public RunModerationRequest() {
+    }
+
+    /**
+     * Parameterized constructor for the RunModerationRequest class.
+     *
+     * @param runIds The IDs of the runs to moderate.
+     * @param action The decision about the runs.
+     */
+    public RunModerationRequest(List<Long> runIds, RunModerationAction action) {
+        this.runIds = runIds;
+        this.action = action;
+    }
+
+    public List<Long> getRunIds() {
+        return runIds;
+    }
+
+    public void setRunIds(List<Long> runIds) {
+        this.runIds = runIds;
+    }
+
+    public RunModerationAction getAction() {
+        return action;
+    }
+
+    public void setAction(RunModerationAction action) {
+        this.action = action;
+    }
+}
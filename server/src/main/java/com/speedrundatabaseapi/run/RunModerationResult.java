@@ -0,0 +1,44 @@
+package com.speedrundatabaseapi.run;
+
+import java.util.List;
+
+/**
+ * Outcome of moderating many pending runs at once.
+ *
+ * <p>Runs that do not exist or are already confirmed are skipped and listed by ID.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see RunService#moderateRuns(RunModerationRequest, long)
+ */
+public class RunModerationResult {
+
+    private final RunModerationAction action;
+    private final int processed;
+    private final List<Long> skippedRunIds;
+
+    /**
+     * Parameterized constructor for the RunModerationResult class.
+     *
+     * @param action        The decision applied to the runs.
+     * @param processed     The number of runs the decision was applied to.
+     * @param skippedRunIds The IDs of runs that were not pending.
+     */
+    public RunModerationResult(RunModerationAction action, int processed, List<Long> skippedRunIds) {
+        this.action = action;
+        this.processed = processed;
+        this.skippedRunIds = skippedRunIds;
+    }
+
+    public RunModerationAction getAction() {
+        return action;
+    }
+
+    public int getProcessed() {
+        return processed;
+    }
+
+    public List<Long> getSkippedRunIds() {
+        return skippedRunIds;
+    }
+}
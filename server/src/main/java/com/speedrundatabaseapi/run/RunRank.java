@@ -0,0 +1,50 @@
+package com.speedrundatabaseapi.run;
+
+/**
+ * Placement of a run, or of a hypothetical time, on a leaderboard.
+ *
+ * <p>The rank is one more than the number of confirmed runs that are strictly faster, so equal times
+ * share a rank. The percentile is the share of ranked runs that are not faster.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see LeaderboardService
+ */
+public class RunRank {
+
+    private final int rank;
+    private final int total;
+    private final double percentile;
+    private final boolean ranked;
+
+    /**
+     * Parameterized constructor for the RunRank class.
+     *
+     * @param rank       The one-based rank.
+     * @param total      The number of runs on the leaderboard.
+     * @param percentile The share of ranked runs (0-100) that are not faster.
+     * @param ranked     True if the run itself is on the leaderboard.
+     */
+    public RunRank(int rank, int total, double percentile, boolean ranked) {
+        this.rank = rank;
+        this.total = total;
+        this.percentile = percentile;
+        this.ranked = ranked;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public boolean isRanked() {
+        return ranked;
+    }
+}
@@ -1,19 +1,167 @@
 package com.speedrundatabaseapi.run;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 /**
  * Repository interface for accessing and managing {@link Run} entities in the Speedrun Database.
  *
  * <p>This repository extends {@link JpaRepository}, providing CRUD operations for the {@link Run} entity.
- * It is annotated with {@code @Repository} to indicate that it is a Spring Data repository bean.</p>
+ * It is annotated with {@code @Repository} to indicate that it is a Spring Data repository bean.
+ * Dynamically filtered listings are provided by the {@link RunRepositoryCustom} fragment.</p>
  *
  * @author Paweł Hajdo
  * @version 1.0
  * @see JpaRepository
  * @see Run
+ * @see RunRepositoryCustom
  */
 @Repository
-public interface RunRepository extends JpaRepository<Run, Long> {
+public interface RunRepository extends JpaRepository<Run, Long>, RunRepositoryCustom {
+
+    /**
+     * Retrieves a run together with its user, game and platform.
+     *
+     * @param runId The ID of the run.
+     * @return The run, or empty if not found.
+     */
+    @EntityGraph(attributePaths = {"user", "game", "platform"})
+    Optional<Run> findDetailsByRunId(long runId);
+
+    /**
+     * Retrieves runs by their IDs together with their user, game and platform.
+     *
+     * @param runIds The IDs of the runs.
+     * @return The existing runs, in no particular order.
+     */
+    @EntityGraph(attributePaths = {"user", "game", "platform"})
+    List<Run> findDetailsByRunIdIn(Collection<Long> runIds);
+
+    /**
+     * Retrieves the pending (unconfirmed) runs among the given IDs and locks them for moderation.
+     *
+     * @param runIds The IDs of the runs.
+     * @return The pending runs.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Run r where r.runId in :runIds and r.confirmedBy = 0")
+    List<Run> findPendingForUpdate(@Param("runIds") Collection<Long> runIds);
+
+    /**
+     * Confirms the given pending runs with a single statement.
+     *
+     * @param runIds  The IDs of the runs.
+     * @param adminId The ID of the administrator confirming the runs.
+     * @return The number of confirmed runs.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Run r set r.confirmedBy = :adminId where r.runId in :runIds and r.confirmedBy = 0")
+    int confirmPending(@Param("runIds") Collection<Long> runIds, @Param("adminId") long adminId);
+
+    /**
+     * Deletes the given pending runs with a single statement.
+     *
+     * @param runIds The IDs of the runs.
+     * @return The number of deleted runs.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Run r where r.runId in :runIds and r.confirmedBy = 0")
+    int deletePending(@Param("runIds") Collection<Long> runIds);
+
+    /**
+     * Streams snapshots of all confirmed runs, used to build the in-memory leaderboards.
+     *
+     * <p>The stream must be consumed within a transaction and closed afterwards.</p>
+     *
+     * @return A stream of leaderboard entries.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select new com.speedrundatabaseapi.run.LeaderboardEntry(r.runId, r.user.userId, r.game.gameId, r.type, " +
+            "r.platform.platformId, r.time, r.date, r.videoLink) from Run r where r.confirmedBy <> 0 and r.time is not null")
+    Stream<LeaderboardEntry> streamConfirmedLeaderboardEntries();
+
+    /**
+     * Streams snapshots of all confirmed runs grouped by game, type and platform and ordered by date within
+     * each group, used to rebuild the world record history in a single pass.
+     *
+     * <p>The stream must be consumed within a transaction and closed afterwards.</p>
+     *
+     * @return A stream of run snapshots.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select new com.speedrundatabaseapi.run.LeaderboardEntry(r.runId, r.user.userId, r.game.gameId, r.type, " +
+            "r.platform.platformId, r.time, r.date, r.videoLink) from Run r where r.confirmedBy <> 0 and r.time is not null " +
+            "order by r.game.gameId, r.type, r.platform.platformId, r.date nulls last, r.runId")
+    Stream<LeaderboardEntry> streamConfirmedRunsByDate();
+
+    /**
+     * Streams snapshots of the confirmed runs of one game, type and platform ordered by date.
+     *
+     * <p>The stream must be consumed within a transaction and closed afterwards.</p>
+     *
+     * @param gameId     The ID of the game.
+     * @param type       The type (category) of the runs.
+     * @param platformId The ID of the platform.
+     * @return A stream of run snapshots.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select new com.speedrundatabaseapi.run.LeaderboardEntry(r.runId, r.user.userId, r.game.gameId, r.type, " +
+            "r.platform.platformId, r.time, r.date, r.videoLink) from Run r where r.game.gameId = :gameId " +
+            "and r.type = :type and r.platform.platformId = :platformId and r.confirmedBy <> 0 and r.time is not null " +
+            "order by r.date nulls last, r.runId")
+    Stream<LeaderboardEntry> streamConfirmedRunsByDate(@Param("gameId") long gameId, @Param("type") String type,
+                                                       @Param("platformId") long platformId);
+
+    /**
+     * Retrieves the fastest confirmed run of a user in one game, type and platform.
+     *
+     * @param userId     The ID of the user.
+     * @param gameId     The ID of the game.
+     * @param type       The type (category) of the runs.
+     * @param platformId The ID of the platform.
+     * @return The snapshot of the fastest run, or empty if the user has no confirmed run there.
+     */
+    @Query("select new com.speedrundatabaseapi.run.LeaderboardEntry(r.runId, r.user.userId, r.game.gameId, r.type, " +
+            "r.platform.platformId, r.time, r.date, r.videoLink) from Run r where r.user.userId = :userId " +
+            "and r.game.gameId = :gameId and r.type = :type and r.platform.platformId = :platformId " +
+            "and r.confirmedBy <> 0 and r.time is not null order by r.time, r.date nulls last, r.runId limit 1")
+    Optional<LeaderboardEntry> findPersonalBest(@Param("userId") long userId, @Param("gameId") long gameId,
+                                                @Param("type") String type, @Param("platformId") long platformId);
+
+    /**
+     * Retrieves the IDs of the games a user has runs in.
+     *
+     * @param userId The ID of the user.
+     * @return The distinct IDs of the games.
+     */
+    @Query("select distinct r.game.gameId from Run r where r.user.userId = :userId")
+    List<Long> findGameIdsByUserId(@Param("userId") long userId);
+
+    /**
+     * Counts, for other users, in how many of the given games they have runs, most shared games first.
+     *
+     * @param gameIds       The IDs of the games.
+     * @param excludeUserId The ID of the user left out of the result.
+     * @param pageable      The maximum number of users.
+     * @return Pairs of user ID and number of shared games.
+     */
+    @Query("select r.user.userId, count(distinct r.game.gameId) from Run r where r.game.gameId in :gameIds " +
+            "and r.user.userId <> :excludeUserId group by r.user.userId " +
+            "order by count(distinct r.game.gameId) desc, r.user.userId")
+    List<Object[]> countSharedGames(@Param("gameIds") Collection<Long> gameIds,
+                                    @Param("excludeUserId") long excludeUserId, Pageable pageable);
 }
@@ -0,0 +1,39 @@
+package com.speedrundatabaseapi.run;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Custom repository fragment for run queries that are built dynamically.
+ *
+ * <p>Spring Data combines this fragment with {@link RunRepository}; the implementation is provided
+ * by {@link RunRepositoryCustomImpl}.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ */
+public interface RunRepositoryCustom {
+
+    /**
+     * Retrieves a page of runs matching the filter, using keyset pagination.
+     *
+     * @param filter The filter criteria.
+     * @param sort   The ordering of the runs.
+     * @param after  The position after which the page starts, or null for the first page.
+     * @param limit  The maximum number of runs to retrieve.
+     * @return The runs on the page, in the requested order.
+     */
+    List<Run> findRuns(RunFilter filter, RunSort sort, RunCursor after, int limit);
+
+    /**
+     * Streams flat snapshots of all runs matching the filter, ordered by run ID.
+     *
+     * <p>Rows are read through a database cursor with a fixed fetch size, so memory use does not depend
+     * on the number of matching runs. The stream must be consumed within a transaction and closed
+     * afterwards.</p>
+     *
+     * @param filter The filter criteria.
+     * @return A stream of run snapshots.
+     */
+    Stream<RunExportRow> streamRuns(RunFilter filter);
+}
@@ -0,0 +1,103 @@
+package com.speedrundatabaseapi.run;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link RunRepositoryCustom} based on JPQL built from the filter criteria.
+ *
+ * <p>Only the criteria that are set end up in the query, so every combination of filters can use
+ * the matching composite index declared on the {@link Run} entity. Listed runs are fetched together
+ * with their user, game and platform, so a page costs a single SQL statement.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ */
+public class RunRepositoryCustomImpl implements RunRepositoryCustom {
+
+    /** The number of rows fetched from the database cursor per round-trip when streaming runs. */
+    static final int EXPORT_FETCH_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Run> findRuns(RunFilter filter, RunSort sort, RunCursor after, int limit) {
+        StringBuilder jpql = new StringBuilder("select r from Run r left join fetch r.user left join fetch r.game " +
+                "left join fetch r.platform where 1 = 1");
+        Map<String, Object> parameters = new HashMap<>();
+        appendFilter(jpql, parameters, filter);
+
+        String property = "r." + sort.getProperty();
+        String direction = sort.isAscending() ? "asc" : "desc";
+        if (after != null) {
+            String comparison = sort.isAscending() ? ">" : "<";
+            jpql.append(" and (").append(property).append(' ').append(comparison).append(" :cursorValue")
+                    .append(" or (").append(property).append(" = :cursorValue and r.runId ")
+                    .append(comparison).append(" :cursorRunId))");
+            parameters.put("cursorValue", after.getValue());
+            parameters.put("cursorRunId", after.getRunId());
+        }
+        jpql.append(" order by ").append(property).append(' ').append(direction)
+                .append(", r.runId ").append(direction);
+
+        TypedQuery<Run> query = entityManager.createQuery(jpql.toString(), Run.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<RunExportRow> streamRuns(RunFilter filter) {
+        StringBuilder jpql = new StringBuilder("select new com.speedrundatabaseapi.run.RunExportRow(r.runId, " +
+                "r.user.userId, r.game.gameId, r.platform.platformId, r.type, r.time, r.videoLink, r.date, " +
+                "r.confirmedBy) from Run r where 1 = 1");
+        Map<String, Object> parameters = new HashMap<>();
+        appendFilter(jpql, parameters, filter);
+        jpql.append(" order by r.runId");
+
+        TypedQuery<RunExportRow> query = entityManager.createQuery(jpql.toString(), RunExportRow.class);
+        parameters.forEach(query::setParameter);
+        return query.setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private void appendFilter(StringBuilder jpql, Map<String, Object> parameters, RunFilter filter) {
+        if (filter.getGameId() != null) {
+            jpql.append(" and r.game.gameId = :gameId");
+            parameters.put("gameId", filter.getGameId());
+        }
+        if (filter.getPlatformId() != null) {
+            jpql.append(" and r.platform.platformId = :platformId");
+            parameters.put("platformId", filter.getPlatformId());
+        }
+        if (filter.getType() != null) {
+            jpql.append(" and r.type = :type");
+            parameters.put("type", filter.getType());
+        }
+        if (filter.getConfirmed() != null) {
+            jpql.append(filter.getConfirmed() ? " and r.confirmedBy <> 0" : " and r.confirmedBy = 0");
+        }
+        if (filter.getFrom() != null) {
+            jpql.append(" and r.date >= :from");
+            parameters.put("from", filter.getFrom());
+        }
+        if (filter.getTo() != null) {
+            jpql.append(" and r.date < :to");
+            parameters.put("to", filter.getTo());
+        }
+    }
+}
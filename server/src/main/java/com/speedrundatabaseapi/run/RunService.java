@@ -1,18 +1,29 @@
 package com.speedrundatabaseapi.run;
 
+import com.speedrundatabaseapi.feed.FeedService;
 import com.speedrundatabaseapi.game.Game;
 import com.speedrundatabaseapi.game.GameRepository;
+import com.speedrundatabaseapi.pagination.CursorPage;
 import com.speedrundatabaseapi.platform.Platform;
 import com.speedrundatabaseapi.platform.PlatformRepository;
 import com.speedrundatabaseapi.user.User;
 import com.speedrundatabaseapi.user.UserRepository;
 import com.speedrundatabaseapi.user.UserRole;
+import com.speedrundatabaseapi.user.UserStatsService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static com.speedrundatabaseapi.user.UserRole.ADMIN;
 
@@ -23,6 +34,9 @@ import static com.speedrundatabaseapi.user.UserRole.ADMIN;
  * the {@link RunRepository}, {@link UserRepository}, {@link GameRepository}, and {@link PlatformRepository}
  * to perform necessary operations on runs, users, games, and platforms.</p>
  *
+ * <p>Every change of a run is also propagated to the {@link LeaderboardService}, the {@link PersonalBestService}
+ * and the {@link WorldRecordService}.</p>
+ *
  * @author Paweł Hajdo
  * @version 1.0
  * @see RunRepository
@@ -37,6 +51,11 @@ public class RunService {
     private final UserRepository userRepository;
     private final GameRepository gameRepository;
     private final PlatformRepository platformRepository;
+    private final LeaderboardService leaderboardService;
+    private final PersonalBestService personalBestService;
+    private final WorldRecordService worldRecordService;
+    private final UserStatsService userStatsService;
+    private final FeedService feedService;
 
     /**
      * Constructor for the RunService class.
@@ -45,23 +64,112 @@ public class RunService {
      * @param userRepository     The repository for accessing and managing users.
      * @param gameRepository     The repository for accessing and managing games.
      * @param platformRepository The repository for accessing and managing platforms.
+     * @param leaderboardService  The service maintaining the in-memory leaderboards.
+     * @param personalBestService The service maintaining the personal bests.
+     * @param worldRecordService  The service maintaining the world record history.
+     * @param userStatsService    The service maintaining the statistics of users.
+     * @param feedService         The service writing new runs to the feeds of followers.
      */
     @Autowired
     public RunService(RunRepository runRepository, UserRepository userRepository,
-                      GameRepository gameRepository, PlatformRepository platformRepository) {
+                      GameRepository gameRepository, PlatformRepository platformRepository,
+                      LeaderboardService leaderboardService, PersonalBestService personalBestService,
+                      WorldRecordService worldRecordService, UserStatsService userStatsService,
+                      FeedService feedService) {
         this.runRepository = runRepository;
         this.userRepository = userRepository;
         this.gameRepository = gameRepository;
         this.platformRepository = platformRepository;
+        this.leaderboardService = leaderboardService;
+        this.personalBestService = personalBestService;
+        this.worldRecordService = worldRecordService;
+        this.userStatsService = userStatsService;
+        this.feedService = feedService;
+    }
+
+    /**
+     * Retrieves a page of runs matching the filter criteria.
+     *
+     * @param filter The filter criteria.
+     * @param sort   The ordering of the runs.
+     * @param cursor The continuation token returned with the previous page, or null for the first page.
+     * @param limit  The requested page size, or null for the default page size.
+     * @return The page of runs.
+     * @throws IllegalArgumentException If the cursor or the page size is invalid.
+     */
+    public CursorPage<Run> getRuns(RunFilter filter, RunSort sort, String cursor, Integer limit) {
+        int pageSize = CursorPage.normalizeLimit(limit);
+        RunCursor after = cursor == null ? null : sort.parseCursor(cursor);
+        List<Run> runs = runRepository.findRuns(filter, sort, after, pageSize + 1);
+        return CursorPage.of(runs, pageSize, sort::cursorOf);
     }
 
     /**
-     * Retrieves a list of all runs in the database.
+     * Retrieves a page of the moderation queue: unconfirmed runs, oldest first.
      *
-     * @return A list of all runs.
+     * @param cursor The continuation token returned with the previous page, or null for the first page.
+     * @param limit  The requested page size, or null for the default page size.
+     * @return The page of pending runs.
+     * @throws IllegalArgumentException If the cursor or the page size is invalid.
      */
-    public List<Run> getAllRuns() {
-        return runRepository.findAll();
+    public CursorPage<Run> getPendingRuns(String cursor, Integer limit) {
+        RunFilter filter = new RunFilter();
+        filter.setConfirmed(false);
+        return getRuns(filter, RunSort.DATE_ASC, cursor, limit);
+    }
+
+    /**
+     * Confirms or rejects many pending runs in one transaction.
+     *
+     * <p>The pending runs among the requested ones are locked and changed with a single statement; rejected
+     * runs are deleted. The caller is responsible for checking that the moderator is an administrator.</p>
+     *
+     * @param request The IDs of the runs and the decision about them.
+     * @param adminId The ID of the administrator moderating the runs.
+     * @return The outcome of the moderation.
+     * @throws IllegalArgumentException If the request is empty, too large or has no action.
+     */
+    @Transactional
+    public RunModerationResult moderateRuns(RunModerationRequest request, long adminId) {
+        List<Long> runIds = request.getRunIds();
+        if (runIds == null || runIds.isEmpty() || request.getAction() == null) {
+            throw new IllegalArgumentException("runIds and action are required");
+        }
+        if (runIds.size() > RunModerationRequest.MAX_RUNS) {
+            throw new IllegalArgumentException("At most " + RunModerationRequest.MAX_RUNS + " runs can be moderated at once");
+        }
+        Set<Long> requested = new LinkedHashSet<>(runIds);
+        List<Run> pending = runRepository.findPendingForUpdate(requested);
+        Set<Long> pendingIds = new HashSet<>();
+        pending.forEach(run -> pendingIds.add(run.getRunId()));
+
+        if (!pendingIds.isEmpty()) {
+            if (request.getAction() == RunModerationAction.CONFIRM) {
+                runRepository.confirmPending(pendingIds, adminId);
+                pending.sort(Comparator.comparing(Run::getDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparingLong(Run::getRunId));
+                for (Run run : pending) {
+                    run.setConfirmedBy(adminId);
+                    leaderboardService.onRunSaved(run);
+                    worldRecordService.onRunSaved(run);
+                    feedService.onRunPublished(run);
+                }
+                personalBestService.onRunsSaved(pending);
+                runsByUser(pending).forEach((userId, runs) -> userStatsService.onRunsChanged(userId, 0, runs));
+            } else {
+                runRepository.deletePending(pendingIds);
+                feedService.onRunsDeleted(pendingIds);
+                runsByUser(pending).forEach((userId, runs) -> userStatsService.onRunsChanged(userId, -runs, 0));
+            }
+        }
+
+        List<Long> skipped = new ArrayList<>();
+        for (Long runId : requested) {
+            if (!pendingIds.contains(runId)) {
+                skipped.add(runId);
+            }
+        }
+        return new RunModerationResult(request.getAction(), pendingIds.size(), skipped);
     }
 
     /**
@@ -69,8 +177,14 @@ public class RunService {
      *
      * @param run The run to be added.
      */
+    @Transactional
     public void addNewRun(Run run) {
         runRepository.save(run);
+        leaderboardService.onRunSaved(run);
+        personalBestService.onRunSaved(null, run);
+        worldRecordService.onRunSaved(run);
+        countRun(run, 1);
+        feedService.onRunPublished(run);
     }
 
     /**
@@ -79,9 +193,11 @@ public class RunService {
      * @param runId              The ID of the run to be updated.
      * @param updatedRunDetails The updated details for the run.
      */
+    @Transactional
     public void changeRunDetails(long runId, Run updatedRunDetails) {
         Run run = runRepository.findById(runId).orElseThrow(()-> new EntityNotFoundException("Run with id " +runId+ " not found"));
-
+        PersonalBestKey previousKey = PersonalBestKey.of(run);
+        User previousUser = run.getUser();
 
         if(updatedRunDetails.getTime() != null){
             run.setTime(updatedRunDetails.getTime());
@@ -112,21 +228,41 @@ public class RunService {
         }
 
         runRepository.save(run);
+        leaderboardService.onRunSaved(run);
+        personalBestService.onRunSaved(previousKey, run);
+        worldRecordService.onRunSaved(run);
+        if (previousUser != run.getUser()) {
+            countRun(previousUser, run.getConfirmedBy(), -1);
+            countRun(run, 1);
+            // the run moves from the timelines of the followers of the previous author to those of the new one
+            feedService.onRunsDeleted(List.of(runId));
+            feedService.onRunPublished(run);
+        }
     }
     /**
      * Confirms a run with provided id.
      *
+     * <p>The role is checked on the authenticated principal, so no user lookup is needed.</p>
+     *
      * @param runId The ID of the run to be deleted.
-     * @param userId The ID of user confirming run.
+     * @param user  The authenticated user confirming run.
      */
-    public void confirmRun(Long runId, Long userId){
+    @Transactional
+    public void confirmRun(Long runId, User user){
         Run run = runRepository.findById(runId).orElseThrow(()-> new EntityNotFoundException("Run with id " +runId+ " not found"));
-        User user = userRepository.findById(userId).orElseThrow(()-> new EntityNotFoundException("User with id " +userId+ " not found"));
 
         UserRole userRole = user.getRole();
         if(userRole == ADMIN){
-            run.setConfirmedBy(userId);
+            boolean wasConfirmed = run.getConfirmedBy() != 0;
+            run.setConfirmedBy(user.getUserId());
             runRepository.save(run);
+            leaderboardService.onRunSaved(run);
+            personalBestService.onRunSaved(PersonalBestKey.of(run), run);
+            worldRecordService.onRunSaved(run);
+            if (!wasConfirmed && run.getUser() != null) {
+                userStatsService.onRunsChanged(run.getUser().getUserId(), 0, 1);
+            }
+            feedService.onRunPublished(run);
         }else {
             throw new AccessDeniedException("You are not allowed to perform this action");
         }
@@ -137,12 +273,16 @@ public class RunService {
      *
      * @param runId The ID of the run to be deleted.
      */
+    @Transactional
     public void deleteRun(long runId) {
-        if (runRepository.existsById(runId)) {
-            runRepository.deleteById(runId);
-        } else {
-            throw new EntityNotFoundException("Run with ID " + runId + " not found");
-        }
+        Run run = runRepository.findById(runId)
+                .orElseThrow(() -> new EntityNotFoundException("Run with ID " + runId + " not found"));
+        runRepository.delete(run);
+        leaderboardService.onRunDeleted(runId);
+        personalBestService.onRunDeleted(run);
+        worldRecordService.onRunDeleted(runId);
+        countRun(run, -1);
+        feedService.onRunsDeleted(List.of(runId));
     }
 
     /**
@@ -153,7 +293,27 @@ public class RunService {
      * @throws EntityNotFoundException If the run with the specified ID is not found.
      */
     public Run getRunDetails(Long runId) {
-        return runRepository.findById(runId)
+        return runRepository.findDetailsByRunId(runId)
                 .orElseThrow(() -> new EntityNotFoundException("Run not found"));
     }
+
+    private void countRun(Run run, long delta) {
+        countRun(run.getUser(), run.getConfirmedBy(), delta);
+    }
+
+    private void countRun(User user, long confirmedBy, long delta) {
+        if (user != null) {
+            userStatsService.onRunsChanged(user.getUserId(), delta, confirmedBy != 0 ? delta : 0);
+        }
+    }
+
+    private static Map<Long, Long> runsByUser(List<Run> runs) {
+        Map<Long, Long> runsByUser = new HashMap<>();
+        for (Run run : runs) {
+            if (run.getUser() != null) {
+                runsByUser.merge(run.getUser().getUserId(), 1L, Long::sum);
+            }
+        }
+        return runsByUser;
+    }
 }
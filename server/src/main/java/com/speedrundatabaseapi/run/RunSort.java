@@ -0,0 +1,115 @@
+package com.speedrundatabaseapi.run;
+
+import com.speedrundatabaseapi.pagination.CursorCodec;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Enumeration of the stable orderings supported by run listings.
+ *
+ * <p>Every ordering sorts by a run attribute and uses the run ID as a tie-breaker, so that keyset
+ * pagination never skips or repeats runs. The enum also encodes and decodes the continuation
+ * tokens of the ordering.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ */
+public enum RunSort {
+    TIME_ASC("time", true),
+    TIME_DESC("time", false),
+    DATE_ASC("date", true),
+    DATE_DESC("date", false);
+
+    private final String property;
+    private final boolean ascending;
+
+    RunSort(String property, boolean ascending) {
+        this.property = property;
+        this.ascending = ascending;
+    }
+
+    /**
+     * Resolves the ordering from request parameters.
+     *
+     * <p>Runs are sorted by time by default. Time is sorted ascending (fastest first) and date
+     * descending (newest first) unless the order is specified.</p>
+     *
+     * @param sort  The attribute to sort by ("time" or "date"), may be null.
+     * @param order The direction ("asc" or "desc"), may be null.
+     * @return The resolved ordering.
+     * @throws IllegalArgumentException If the attribute or direction is not supported.
+     */
+    public static RunSort of(String sort, String order) {
+        String property = sort == null ? "time" : sort.toLowerCase();
+        if (!property.equals("time") && !property.equals("date")) {
+            throw new IllegalArgumentException("Runs can only be sorted by time or date");
+        }
+        boolean ascending;
+        if (order == null) {
+            ascending = property.equals("time");
+        } else if (order.equalsIgnoreCase("asc")) {
+            ascending = true;
+        } else if (order.equalsIgnoreCase("desc")) {
+            ascending = false;
+        } else {
+            throw new IllegalArgumentException("Order must be asc or desc");
+        }
+        for (RunSort runSort : values()) {
+            if (runSort.property.equals(property) && runSort.ascending == ascending) {
+                return runSort;
+            }
+        }
+        throw new IllegalStateException("Unsupported run sort " + property);
+    }
+
+    /**
+     * Gets the name of the sorted Run attribute.
+     *
+     * @return The attribute name.
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Checks whether the ordering is ascending.
+     *
+     * @return True if the ordering is ascending.
+     */
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    /**
+     * Encodes a continuation token pointing after the given run.
+     *
+     * @param run The last run on a page.
+     * @return The continuation token.
+     */
+    public String cursorOf(Run run) {
+        String value = property.equals("time") ? run.getTime().toString() : run.getDate().toString();
+        return CursorCodec.encode(name(), value, String.valueOf(run.getRunId()));
+    }
+
+    /**
+     * Decodes a continuation token produced by {@link #cursorOf(Run)}.
+     *
+     * @param cursor The continuation token.
+     * @return The decoded cursor.
+     * @throws IllegalArgumentException If the token is malformed or belongs to a different ordering.
+     */
+    public RunCursor parseCursor(String cursor) {
+        String[] parts = CursorCodec.decode(cursor, 3);
+        if (!parts[0].equals(name())) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+        try {
+            Object value = property.equals("time") ? Duration.parse(parts[1]) : LocalDateTime.parse(parts[1]);
+            return new RunCursor(value, Long.parseLong(parts[2]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.speedrundatabaseapi.run;
+
+import jakarta.persistence.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing one step of the world record progression in the Speedrun Database API.
+ *
+ * <p>Every row is a confirmed run that was faster than all confirmed runs of the same game, type
+ * (category) and platform submitted before it. Ordered by date, the rows of one category form its
+ * world record history.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see WorldRecordService
+ */
+@Entity
+@Table(name = "world_record",
+        indexes = {
+                @Index(name = "world_record_game_type_platform_date_idx", columnList = "game_id, type, platform_id, date, id"),
+                @Index(name = "world_record_run_idx", columnList = "run_id")
+        })
+public class WorldRecord {
+
+    @Id
+    @SequenceGenerator(
+            name = "world_record_sequence",
+            allocationSize = 1
+    )
+    @GeneratedValue(
+            strategy = GenerationType.SEQUENCE,
+            generator = "world_record_sequence"
+    )
+    @Column(name = "id")
+    private long id;
+
+    @Column(name = "game_id", nullable = false)
+    private long gameId;
+
+    @Column(name = "type", nullable = false)
+    private String type;
+
+    @Column(name = "platform_id", nullable = false)
+    private long platformId;
+
+    @Column(name = "run_id", nullable = false)
+    private long runId;
+
+    @Column(name = "user_id", nullable = false)
+    private long userId;
+
+    @Column(name = "time", nullable = false)
+    private Duration time;
+
+    @Column(name = "date")
+    private LocalDateTime date;
+
+    /**
+     * Default constructor for the WorldRecord class.
+     */
+    public WorldRecord() {
+    }
+
+    /**
+     * Creates a world record from the snapshot of the run that set it.
+     *
+     * @param entry The snapshot of the run.
+     * @return The world record.
+     */
+    public static WorldRecord of(LeaderboardEntry entry) {
+        WorldRecord record = new WorldRecord();
+        record.gameId = entry.getGameId();
+        record.type = entry.getType();
+        record.platformId = entry.getPlatformId();
+        record.runId = entry.getRunId();
+        record.userId = entry.getUserId();
+        record.time = entry.getTime();
+        record.date = entry.getDate();
+        return record;
+    }
+
+    public long getGameId() {
+        return gameId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public long getPlatformId() {
+        return platformId;
+    }
+
+    public long getRunId() {
+        return runId;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public Duration getTime() {
+        return time;
+    }
+
+    public LocalDateTime getDate() {
+        return date;
+    }
+}
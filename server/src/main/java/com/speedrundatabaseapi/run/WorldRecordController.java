@@ -0,0 +1,60 @@
+package com.speedrundatabaseapi.run;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controller class for handling HTTP requests related to world records in the Speedrun Database API.
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see WorldRecordService
+ */
+@RestController
+@RequestMapping(path = "speedruns/api/games/{gameId}/records")
+public class WorldRecordController {
+
+    private final Logger logger = LoggerFactory.getLogger(WorldRecordController.class);
+    private final WorldRecordService worldRecordService;
+
+    /**
+     * Constructor for WorldRecordController, injecting dependencies.
+     *
+     * @param worldRecordService The WorldRecordService maintaining the world record history.
+     */
+    @Autowired
+    public WorldRecordController(WorldRecordService worldRecordService) {
+        this.worldRecordService = worldRecordService;
+    }
+
+    /**
+     * Endpoint for retrieving the world record progression of a game.
+     *
+     * @param gameId     The ID of the game.
+     * @param type       The type (category) of the runs (optional).
+     * @param platformId The ID of the platform (optional).
+     * @return ResponseEntity containing the world record history or an error message.
+     */
+    @GetMapping(path = "/history")
+    public ResponseEntity<?> getHistory(
+            @PathVariable long gameId,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Long platformId
+    ) {
+        try {
+            List<WorldRecord> history = worldRecordService.getHistory(gameId, type, platformId);
+            logger.info("World record history fetched successfully");
+            return ResponseEntity.ok(history);
+        } catch (Exception e) {
+            logger.error("Error occurred while getting world record history");
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error while getting world record history");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.speedrundatabaseapi.run;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for accessing and managing {@link WorldRecord} entities.
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see WorldRecord
+ */
+@Repository
+public interface WorldRecordRepository extends JpaRepository<WorldRecord, Long> {
+
+    /**
+     * Retrieves the world record history of a game, optionally restricted to one type and platform.
+     *
+     * @param gameId     The ID of the game.
+     * @param type       The type (category) of the runs, or null for all types.
+     * @param platformId The ID of the platform, or null for all platforms.
+     * @return The world records ordered by category and date.
+     */
+    @Query("select wr from WorldRecord wr where wr.gameId = :gameId and (:type is null or wr.type = :type) " +
+            "and (:platformId is null or wr.platformId = :platformId) " +
+            "order by wr.type, wr.platformId, wr.date nulls last, wr.id")
+    List<WorldRecord> findHistory(@Param("gameId") long gameId, @Param("type") String type,
+                                  @Param("platformId") Long platformId);
+
+    /**
+     * Retrieves the history entries set by a run.
+     *
+     * @param runId The ID of the run.
+     * @return The world records set by the run.
+     */
+    List<WorldRecord> findByRunId(long runId);
+
+    /**
+     * Deletes the history of one category.
+     *
+     * @param gameId     The ID of the game.
+     * @param type       The type (category) of the runs.
+     * @param platformId The ID of the platform.
+     */
+    @Modifying
+    @Query("delete from WorldRecord wr where wr.gameId = :gameId and wr.type = :type and wr.platformId = :platformId")
+    void deleteHistory(@Param("gameId") long gameId, @Param("type") String type, @Param("platformId") long platformId);
+}
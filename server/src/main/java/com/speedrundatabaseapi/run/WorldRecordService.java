@@ -0,0 +1,191 @@
+package com.speedrundatabaseapi.run;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Service class maintaining the world record progression in the Speedrun Database API.
+ *
+ * <p>A newly confirmed run is placed in the history of its category by its date: a run dated after the newest
+ * record that beats it is simply appended, and a run slower than the record standing on its date changes
+ * nothing. Only changes that rewrite the past, such as a run confirmed late that beats the record of its date
+ * or editing or deleting a run that held a record, rebuild the history of the affected category. The whole
+ * history can be
+ * rebuilt in one streaming pass over the confirmed runs ordered by category and date, keeping the running
+ * minimum of the time per category.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see WorldRecord
+ * @see RunService
+ */
+@Service
+public class WorldRecordService {
+
+    private static final Comparator<WorldRecord> SWEEP_ORDER = Comparator
+            .comparing(WorldRecord::getDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingLong(WorldRecord::getRunId);
+
+    private final Logger logger = LoggerFactory.getLogger(WorldRecordService.class);
+    private final WorldRecordRepository worldRecordRepository;
+    private final RunRepository runRepository;
+
+    /**
+     * Constructor for the WorldRecordService class.
+     *
+     * @param worldRecordRepository The repository for accessing world records.
+     * @param runRepository         The repository for accessing runs.
+     */
+    @Autowired
+    public WorldRecordService(WorldRecordRepository worldRecordRepository, RunRepository runRepository) {
+        this.worldRecordRepository = worldRecordRepository;
+        this.runRepository = runRepository;
+    }
+
+    /**
+     * Rebuilds the world record history from the existing runs if it is empty.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (worldRecordRepository.count() == 0) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Rebuilds the whole world record history in one streaming pass over the confirmed runs.
+     */
+    @Transactional
+    public void rebuild() {
+        worldRecordRepository.deleteAllInBatch();
+        int records;
+        try (Stream<LeaderboardEntry> entries = runRepository.streamConfirmedRunsByDate()) {
+            records = sweep(entries);
+        }
+        logger.info("World record history rebuilt, " + records + " records");
+    }
+
+    /**
+     * Retrieves the world record history of a game.
+     *
+     * @param gameId     The ID of the game.
+     * @param type       The type (category) of the runs, or null for all types.
+     * @param platformId The ID of the platform, or null for all platforms.
+     * @return The world records ordered by category and date.
+     */
+    public List<WorldRecord> getHistory(long gameId, String type, Long platformId) {
+        return worldRecordRepository.findHistory(gameId, type, platformId);
+    }
+
+    /**
+     * Updates the world record history after a run was added, edited or confirmed.
+     *
+     * @param run The run after the change.
+     */
+    public void onRunSaved(Run run) {
+        Set<LeaderboardKey> staleKeys = recordKeysOf(run.getRunId());
+        if (run.getConfirmedBy() == 0 || run.getTime() == null) {
+            staleKeys.forEach(this::rebuild);
+            return;
+        }
+        LeaderboardEntry entry = LeaderboardEntry.of(run);
+        if (!staleKeys.isEmpty()) {
+            staleKeys.add(entry.getKey());
+            staleKeys.forEach(this::rebuild);
+            return;
+        }
+        onConfirmedRunSaved(entry);
+    }
+
+    /**
+     * Places a confirmed run that held no record in the history of its category, giving the same history as
+     * a rebuild.
+     *
+     * @param entry The snapshot of the confirmed run.
+     */
+    void onConfirmedRunSaved(LeaderboardEntry entry) {
+        List<WorldRecord> history = new ArrayList<>(worldRecordRepository.findHistory(entry.getGameId(),
+                entry.getType(), entry.getPlatformId()));
+        history.sort(SWEEP_ORDER);
+        WorldRecord standing = null;
+        int position = 0;
+        while (position < history.size() && comesBefore(history.get(position), entry)) {
+            standing = history.get(position++);
+        }
+        if (standing == null || entry.getTime().compareTo(standing.getTime()) < 0) {
+            if (position == history.size()) {
+                worldRecordRepository.save(WorldRecord.of(entry));
+            } else {
+                rebuild(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Updates the world record history after a run was deleted.
+     *
+     * @param runId The ID of the deleted run.
+     */
+    public void onRunDeleted(long runId) {
+        recordKeysOf(runId).forEach(this::rebuild);
+    }
+
+    private Set<LeaderboardKey> recordKeysOf(long runId) {
+        Set<LeaderboardKey> keys = new LinkedHashSet<>();
+        for (WorldRecord record : worldRecordRepository.findByRunId(runId)) {
+            keys.add(new LeaderboardKey(record.getGameId(), record.getType(), record.getPlatformId()));
+        }
+        return keys;
+    }
+
+    private void rebuild(LeaderboardKey key) {
+        worldRecordRepository.deleteHistory(key.getGameId(), key.getType(), key.getPlatformId());
+        try (Stream<LeaderboardEntry> entries = runRepository.streamConfirmedRunsByDate(key.getGameId(), key.getType(),
+                key.getPlatformId())) {
+            sweep(entries);
+        }
+    }
+
+    private int sweep(Stream<LeaderboardEntry> entries) {
+        LeaderboardKey currentKey = null;
+        Duration best = null;
+        int records = 0;
+        for (LeaderboardEntry entry : (Iterable<LeaderboardEntry>) entries::iterator) {
+            if (!entry.getKey().equals(currentKey)) {
+                currentKey = entry.getKey();
+                best = null;
+            }
+            if (best == null || entry.getTime().compareTo(best) < 0) {
+                best = entry.getTime();
+                worldRecordRepository.save(WorldRecord.of(entry));
+                records++;
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Checks whether a record comes before a run in the order of the sweep: by date, undated runs last, then by
+     * run ID.
+     */
+    private static boolean comesBefore(WorldRecord record, LeaderboardEntry entry) {
+        int byDate = Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder())
+                .compare(record.getDate(), entry.getDate());
+        return byDate < 0 || byDate == 0 && record.getRunId() < entry.getRunId();
+    }
+}
@@ -0,0 +1,105 @@
+package com.speedrundatabaseapi.user;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings.
+ *
+ * <p>A Bloom filter answers whether a value may have been added: "no" is always correct, "maybe" is wrong with
+ * roughly the configured false positive probability as long as no more than the expected number of values has
+ * been added. Values cannot be removed. The bits are set atomically, so values can be added while other
+ * threads query the filter.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see UserAvailabilityService
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final long capacity;
+
+    /**
+     * Constructs a Bloom filter sized for the given number of values and false positive probability.
+     *
+     * @param capacity                 The expected number of values.
+     * @param falsePositiveProbability The false positive probability at full capacity, between 0 and 1.
+     */
+    public BloomFilter(long capacity, double falsePositiveProbability) {
+        long n = Math.max(1, capacity);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) Math.max(1, (m + 63) / 64));
+        this.bitCount = bits.length() * 64L;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.capacity = n;
+    }
+
+    /**
+     * Adds a value to the filter.
+     *
+     * @param value The value.
+     */
+    public void put(String value) {
+        long hash = hash(value);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word;
+            do {
+                word = bits.get(index);
+            } while ((word & mask) == 0 && !bits.compareAndSet(index, word, word | mask));
+        }
+    }
+
+    /**
+     * Checks whether a value may have been added to the filter.
+     *
+     * @param value The value.
+     * @return False if the value has certainly not been added; true if it may have been.
+     */
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of values the filter was sized for.
+     *
+     * @return The capacity.
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,39 @@
+package com.speedrundatabaseapi.user;
+
+/**
+ * Represents a request to exchange a refresh token for a new pair of tokens.
+ *
+ * <p>This class is designed to be used as a request body in the token refresh endpoint of the UserController.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see UserController
+ * @see UserTokens
+ */
+public class TokenRefreshRequest {
+    private String refreshToken;
+
+    /**
+     * Default constructor for TokenRefreshRequest.
+     */
+    public TokenRefreshRequest() {
+    }
+
+    /**
+     * Getter for the refresh token.
+     *
+     * @return The refresh token.
+     */
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    /**
+     * Setter for the refresh token.
+     *
+     * @param refreshToken The refresh token.
+     */
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
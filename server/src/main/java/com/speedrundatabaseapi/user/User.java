@@ -24,7 +24,10 @@ import java.util.Set;
  * @see UserDetails
  */
 @Entity
-@Table
+@Table(indexes = {
+        @Index(name = "user_login_uidx", columnList = "login", unique = true),
+        @Index(name = "user_email_uidx", columnList = "email", unique = true)
+})
 @JsonSerialize(using = UserCustomSerializer.class)
 public class User implements UserDetails {
 
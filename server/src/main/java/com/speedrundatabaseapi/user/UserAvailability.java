@@ -0,0 +1,72 @@
+package com.speedrundatabaseapi.user;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Represents the availability of a login and an email address for a new account.
+ *
+ * <p>This class is designed to be used as a response body of the availability endpoint of the UserController.
+ * Values that were not checked are left out of the response.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see UserController
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserAvailability {
+    private final String login;
+    private final Boolean loginAvailable;
+    private final String email;
+    private final Boolean emailAvailable;
+
+    /**
+     * Parameterized constructor for UserAvailability.
+     *
+     * @param login          The checked login, or null if it was not checked.
+     * @param loginAvailable Whether the login is available, or null if it was not checked.
+     * @param email          The checked email address, or null if it was not checked.
+     * @param emailAvailable Whether the email address is available, or null if it was not checked.
+     */
+    public UserAvailability(String login, Boolean loginAvailable, String email, Boolean emailAvailable) {
+        this.login = login;
+        this.loginAvailable = loginAvailable;
+        this.email = email;
+        this.emailAvailable = emailAvailable;
+    }
+
+    /**
+     * Getter for the checked login.
+     *
+     * @return The login.
+     */
+    public String getLogin() {
+        return login;
+    }
+
+    /**
+     * Getter for the availability of the login.
+     *
+     * @return Whether the login is available.
+     */
+    public Boolean getLoginAvailable() {
+        return loginAvailable;
+    }
+
+    /**
+     * Getter for the checked email address.
+     *
+     * @return The email address.
+     */
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * Getter for the availability of the email address.
+     *
+     * @return Whether the email address is available.
+     */
+    public Boolean getEmailAvailable() {
+        return emailAvailable;
+    }
+}
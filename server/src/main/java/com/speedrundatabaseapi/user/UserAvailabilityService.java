@@ -0,0 +1,248 @@
+package com.speedrundatabaseapi.user;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service answering whether a login or an email address is still available.
+ *
+ * <p>The logins and email addresses of all users are kept in two in-memory Bloom filters, built when the
+ * application starts and extended whenever a user is registered or changed. A value the filter has never seen
+ * is available without a database query; only a possible hit is checked in the database, so the answer is always
+ * exact. The unique indexes on the login and email columns remain the final guard against duplicates.</p>
+ *
+ * <p>Values are added to the filters only after the transaction creating or changing the user commits, so a
+ * rolled back registration leaves no trace. Values added while the filters are being rebuilt are replayed on the
+ * rebuilt filters before they replace the current ones.</p>
+ *
+ * <p>Values of deleted or renamed users cannot be removed from the filters and only cost a database query until
+ * the next rebuild. The filters are rebuilt when more values were added than they were sized for. Checks are
+ * counted by the {@code users.availability.checks} counter, tagged with {@code result=filtered} for checks answered
+ * by the filters, {@code result=taken} for confirmed hits and {@code result=false_positive} for hits not confirmed
+ * by the database.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see BloomFilter
+ * @see UserService
+ */
+@Service
+public class UserAvailabilityService {
+
+    private static final int REBUILD_BATCH_SIZE = 10000;
+
+    private final Logger logger = LoggerFactory.getLogger(UserAvailabilityService.class);
+    private final UserRepository userRepository;
+    private final long minCapacity;
+    private final double falsePositiveProbability;
+    private final Counter filtered;
+    private final Counter taken;
+    private final Counter falsePositives;
+    private final Object lock = new Object();
+    private volatile Filters filters;
+    private List<AddedValues> addedDuringRebuild;
+
+    /**
+     * Constructor for UserAvailabilityService, injecting dependencies.
+     *
+     * @param userRepository           The UserRepository for database operations related to User entities.
+     * @param minCapacity              The smallest number of values the filters are sized for.
+     * @param falsePositiveProbability The false positive probability of the filters at full capacity.
+     * @param meterRegistry            The registry of the availability metrics.
+     */
+    @Autowired
+    public UserAvailabilityService(UserRepository userRepository,
+                                   @Value("${users.availability.min-capacity:100000}") long minCapacity,
+                                   @Value("${users.availability.false-positive-probability:0.01}") double falsePositiveProbability,
+                                   MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.minCapacity = minCapacity;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.filtered = Counter.builder("users.availability.checks").tag("result", "filtered")
+                .description("Availability checks answered by the Bloom filters").register(meterRegistry);
+        this.taken = Counter.builder("users.availability.checks").tag("result", "taken")
+                .description("Availability checks of values found in the database").register(meterRegistry);
+        this.falsePositives = Counter.builder("users.availability.checks").tag("result", "false_positive")
+                .description("Availability checks of filter hits not found in the database").register(meterRegistry);
+    }
+
+    /**
+     * Checks whether no user has the given login.
+     *
+     * @param login The login username; a missing login is always available.
+     * @return True if the login is available.
+     */
+    public boolean isLoginAvailable(String login) {
+        if (login == null) {
+            return true;
+        }
+        Filters current = filters;
+        if (current != null && !current.logins.mightContain(login)) {
+            filtered.increment();
+            return true;
+        }
+        return confirm(userRepository.existsByLogin(login));
+    }
+
+    /**
+     * Checks whether no user has the given email address.
+     *
+     * @param email The email address; a missing email address is always available.
+     * @return True if the email address is available.
+     */
+    public boolean isEmailAvailable(String email) {
+        if (email == null) {
+            return true;
+        }
+        Filters current = filters;
+        if (current != null && !current.emails.mightContain(email)) {
+            filtered.increment();
+            return true;
+        }
+        return confirm(userRepository.existsByEmail(email));
+    }
+
+    /**
+     * Adds the login and the email address of a registered or changed user to the filters once the current
+     * transaction, if any, commits.
+     *
+     * @param login The login username, or null if there is none.
+     * @param email The email address, or null if there is none.
+     */
+    public void add(String login, String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(login, email);
+                }
+            });
+        } else {
+            put(login, email);
+        }
+    }
+
+    private void put(String login, String email) {
+        synchronized (lock) {
+            Filters current = filters;
+            if (current != null) {
+                current.put(login, email);
+            }
+            if (addedDuringRebuild != null) {
+                addedDuringRebuild.add(new AddedValues(login, email));
+            }
+        }
+    }
+
+    /**
+     * Builds the filters when the application starts.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the filters if more values were added than they were sized for.
+     */
+    @Scheduled(fixedDelayString = "${users.availability.capacity-check-interval:PT1M}")
+    public void rebuildIfFull() {
+        Filters current = filters;
+        if (current != null && current.isFull()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Rebuilds the filters from the logins and email addresses of all users, reading them in batches ordered by ID.
+     * The filters are sized for twice the current number of users.
+     */
+    public synchronized void rebuild() {
+        synchronized (lock) {
+            addedDuringRebuild = new ArrayList<>();
+        }
+        long capacity = Math.max(minCapacity, userRepository.count() * 2);
+        Filters rebuilt = new Filters(capacity, falsePositiveProbability);
+        try {
+            long lastUserId = Long.MIN_VALUE;
+            List<UserSummary> batch;
+            do {
+                batch = userRepository.findSummariesAfter(lastUserId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (UserSummary user : batch) {
+                    rebuilt.put(user.getLogin(), user.getEmail());
+                    lastUserId = user.getUserId();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+            synchronized (lock) {
+                addedDuringRebuild.forEach(added -> rebuilt.put(added.login, added.email));
+                filters = rebuilt;
+            }
+        } finally {
+            synchronized (lock) {
+                addedDuringRebuild = null;
+            }
+        }
+        logger.info("Availability filters rebuilt for " + capacity + " values");
+    }
+
+    private boolean confirm(boolean exists) {
+        if (exists) {
+            taken.increment();
+        } else {
+            falsePositives.increment();
+        }
+        return !exists;
+    }
+
+    private static final class AddedValues {
+
+        private final String login;
+        private final String email;
+
+        private AddedValues(String login, String email) {
+            this.login = login;
+            this.email = email;
+        }
+    }
+
+    private static final class Filters {
+
+        private final BloomFilter logins;
+        private final BloomFilter emails;
+        private final AtomicLong size = new AtomicLong();
+
+        private Filters(long capacity, double falsePositiveProbability) {
+            this.logins = new BloomFilter(capacity, falsePositiveProbability);
+            this.emails = new BloomFilter(capacity, falsePositiveProbability);
+        }
+
+        private void put(String login, String email) {
+            if (login != null) {
+                logins.put(login);
+            }
+            if (email != null) {
+                emails.put(email);
+            }
+            size.incrementAndGet();
+        }
+
+        private boolean isFull() {
+            return size.get() > logins.getCapacity();
+        }
+    }
+}
@@ -1,16 +1,19 @@
 package com.speedrundatabaseapi.user;
 
+import com.speedrundatabaseapi.config.LoginThrottledException;
+import com.speedrundatabaseapi.config.PasswordHashingRejectedException;
+import com.speedrundatabaseapi.pagination.CursorPage;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * Controller class for handling HTTP requests related to user operations in the Speedrun Database API.
  * Responsible for CRUD operations on user entities, user registration, and user login.
@@ -39,13 +42,63 @@ public class UserController {
     }
 
     /**
-     * Endpoint to retrieve a list of all users.
+     * Endpoint to retrieve a page of the user directory.
      *
-     * @return List of all users.
+     * @param login  The prefix the logins must start with (optional).
+     * @param sort   The attribute to sort by ("login" or "id").
+     * @param order  The sort direction ("asc" or "desc").
+     * @param cursor The continuation token returned with the previous page.
+     * @param limit  The maximum number of users on the page.
+     * @return ResponseEntity containing the page of users or an error message.
      */
     @GetMapping()
-    public List<User> getAllUsers() {
-        return userService.getAllUsers();
+    public ResponseEntity<?> getUsers(
+            @RequestParam(required = false) String login,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String order,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        try {
+            CursorPage<UserSummary> users = userService.getUsers(login, UserSort.of(sort, order), cursor, limit);
+            logger.info("Users fetched successfully");
+            return ResponseEntity.ok(users);
+        } catch (IllegalArgumentException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error occurred while getting users");
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error while getting users");
+        }
+    }
+
+    /**
+     * Endpoint to check whether a login and/or an email address are still available.
+     *
+     * @param login   The login username to check, optional.
+     * @param email   The email address to check, optional.
+     * @param request The HTTP request, used to throttle checks per client address.
+     * @return ResponseEntity containing the availability of the given values or an error message.
+     */
+    @GetMapping(path = "/availability")
+    public ResponseEntity<?> checkAvailability(@RequestParam(required = false) String login,
+                                               @RequestParam(required = false) String email,
+                                               HttpServletRequest request) {
+        if (login == null && email == null) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Login or email is required");
+        }
+        try {
+            return ResponseEntity.ok(userService.checkAvailability(login, email, request.getRemoteAddr()));
+        } catch (LoginThrottledException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds())).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error occurred while checking availability");
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error while checking availability");
+        }
     }
 
     /**
@@ -70,16 +123,44 @@ public class UserController {
         }
     }
 
+    /**
+     * Endpoint to retrieve the profile statistics of a specific user by ID.
+     *
+     * @param userId The ID of the user to retrieve statistics for.
+     * @return ResponseEntity containing the statistics or an error message.
+     */
+    @GetMapping(path = "/{userId}/stats")
+    public ResponseEntity<?> getUserStats(@PathVariable Long userId) {
+        try {
+            return ResponseEntity.ok(userService.getUserStats(userId));
+        } catch (EntityNotFoundException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error occurred while getting user statistics");
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error while getting user statistics");
+        }
+    }
+
     /**
      * Endpoint to register a new user.
      *
-     * @param user The user object to be registered.
+     * @param user    The user object to be registered.
+     * @param request The HTTP request, used to throttle attempts per client address.
      * @return ResponseEntity indicating success or an error message.
      */
     @PostMapping()
-    public ResponseEntity<String> registerNewUser(@RequestBody User user) {
+    public ResponseEntity<String> registerNewUser(@RequestBody User user, HttpServletRequest request) {
         try {
-            return ResponseEntity.ok(userService.registerNewUser(user));
+            return ResponseEntity.ok(userService.registerNewUser(user, request.getRemoteAddr()));
+        } catch (LoginThrottledException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds())).body(e.getMessage());
+        } catch (PasswordHashingRejectedException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(e.getMessage());
         } catch (RuntimeException e) {
             logger.info(e.getMessage());
             return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
@@ -94,12 +175,20 @@ public class UserController {
      * Endpoint for user login.
      *
      * @param userLoginRequest The request object containing user login credentials.
+     * @param request          The HTTP request, used to throttle attempts per client address.
      * @return ResponseEntity indicating successful login or an error message.
      */
     @PostMapping(path = "/login")
-    public ResponseEntity<String> loginUser(@RequestBody UserLoginRequest userLoginRequest) {
+    public ResponseEntity<String> loginUser(@RequestBody UserLoginRequest userLoginRequest, HttpServletRequest request) {
         try {
-            return ResponseEntity.ok(userService.login(userLoginRequest));
+            return ResponseEntity.ok(userService.login(userLoginRequest, request.getRemoteAddr()));
+        } catch (LoginThrottledException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds())).body(e.getMessage());
+        } catch (PasswordHashingRejectedException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(e.getMessage());
         } catch (BadCredentialsException e) {
             logger.info(e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
@@ -113,6 +202,57 @@ public class UserController {
         }
     }
 
+    /**
+     * Endpoint for user login returning an access token and a refresh token.
+     *
+     * @param userLoginRequest The request object containing user login credentials.
+     * @param request          The HTTP request, used to throttle attempts per client address.
+     * @return ResponseEntity containing the tokens or an error message.
+     */
+    @PostMapping(path = "/tokens")
+    public ResponseEntity<?> issueTokens(@RequestBody UserLoginRequest userLoginRequest, HttpServletRequest request) {
+        try {
+            return ResponseEntity.ok(userService.issueTokens(userLoginRequest, request.getRemoteAddr()));
+        } catch (LoginThrottledException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds())).body(e.getMessage());
+        } catch (PasswordHashingRejectedException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(e.getMessage());
+        } catch (BadCredentialsException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        } catch (EntityNotFoundException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error occurred while issuing tokens");
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error occurred while issuing tokens");
+        }
+    }
+
+    /**
+     * Endpoint for exchanging a refresh token for a new access token and refresh token.
+     *
+     * @param tokenRefreshRequest The request object containing the refresh token.
+     * @return ResponseEntity containing the new tokens or an error message.
+     */
+    @PostMapping(path = "/tokens/refresh")
+    public ResponseEntity<?> refreshTokens(@RequestBody TokenRefreshRequest tokenRefreshRequest) {
+        try {
+            return ResponseEntity.ok(userService.refreshTokens(tokenRefreshRequest.getRefreshToken()));
+        } catch (BadCredentialsException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error occurred while refreshing tokens");
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error occurred while refreshing tokens");
+        }
+    }
+
     /**
      * Endpoint to delete a user by ID.
      *
@@ -154,6 +294,12 @@ public class UserController {
         } catch (EntityNotFoundException e) {
             logger.info(e.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (PasswordHashingRejectedException e) {
+            logger.info(e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(e.getMessage());
         } catch (Exception e) {
             logger.error("Error while updating user details");
             e.printStackTrace();
@@ -1,21 +1,28 @@
 package com.speedrundatabaseapi.user;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for User entities, extending JpaRepository for basic CRUD operations.
  *
- * <p>This interface provides additional query methods for retrieving User entities by login and email.</p>
+ * <p>This interface provides additional query methods for retrieving User entities by login and email.
+ * The paginated user directory is provided by the {@link UserRepositoryCustom} fragment.</p>
  *
  * @author Paweł Hajdo
  * @version 1.0
  * @see User
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
     /**
      * Retrieves a user by their login username.
@@ -32,4 +39,50 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return An Optional containing the user if found, otherwise an empty Optional.
      */
     Optional<User> findByEmail(String email);
+
+    /**
+     * Checks whether a user with the given login exists.
+     *
+     * @param login The login username.
+     * @return True if a user with this login exists.
+     */
+    boolean existsByLogin(String login);
+
+    /**
+     * Checks whether a user with the given email address exists.
+     *
+     * @param email The email address.
+     * @return True if a user with this email address exists.
+     */
+    boolean existsByEmail(String email);
+
+    /**
+     * Retrieves the next batch of users, ordered by ID, as summaries without the associations of the users.
+     *
+     * @param afterUserId The ID after which the batch starts.
+     * @param pageable    The size of the batch.
+     * @return The summaries of the users.
+     */
+    @Query("select new com.speedrundatabaseapi.user.UserSummary(u.userId, u.login, u.email, u.role) from User u " +
+            "where u.userId > :afterUserId order by u.userId")
+    List<UserSummary> findSummariesAfter(@Param("afterUserId") long afterUserId, Pageable pageable);
+
+    /**
+     * Retrieves users by their IDs as summaries without the associations of the users.
+     *
+     * @param userIds The IDs of the users.
+     * @return The summaries of the existing users, in no particular order.
+     */
+    @Query("select new com.speedrundatabaseapi.user.UserSummary(u.userId, u.login, u.email, u.role) from User u " +
+            "where u.userId in :userIds")
+    List<UserSummary> findSummariesByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Retrieves which of the given user IDs belong to existing users.
+     *
+     * @param userIds The IDs to check.
+     * @return The IDs of the existing users.
+     */
+    @Query("select u.userId from User u where u.userId in :userIds")
+    Set<Long> findExistingUserIds(@Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,27 @@
+package com.speedrundatabaseapi.user;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment for the user directory, whose query is built dynamically.
+ *
+ * <p>Spring Data combines this fragment with {@link UserRepository}; the implementation is provided
+ * by {@link UserRepositoryCustomImpl}.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Retrieves a page of user summaries, optionally restricted to logins starting with a prefix, using keyset
+     * pagination.
+     *
+     * @param loginPrefix The prefix the logins must start with, or null for all users.
+     * @param sort        The ordering of the users.
+     * @param after       The sort key after which the page starts, or null for the first page.
+     * @param limit       The maximum number of users to retrieve.
+     * @return The user summaries on the page, in the requested order.
+     */
+    List<UserSummary> findUsers(String loginPrefix, UserSort sort, Object after, int limit);
+}
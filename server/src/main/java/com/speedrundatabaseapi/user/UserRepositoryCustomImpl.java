@@ -0,0 +1,53 @@
+package com.speedrundatabaseapi.user;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of {@link UserRepositoryCustom} building the user directory query with JPQL.
+ *
+ * <p>Only the columns of the user table are selected, into {@link UserSummary} objects. The login prefix is
+ * matched with {@code like} on the uniquely indexed login column; the additional lower bound lets the database
+ * start the index scan at the prefix.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ */
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserSummary> findUsers(String loginPrefix, UserSort sort, Object after, int limit) {
+        StringBuilder jpql = new StringBuilder("select new com.speedrundatabaseapi.user.UserSummary(u.userId, " +
+                "u.login, u.email, u.role) from User u where 1 = 1");
+        Map<String, Object> parameters = new HashMap<>();
+        if (loginPrefix != null) {
+            jpql.append(" and u.login >= :prefix and u.login like :pattern escape '!'");
+            parameters.put("prefix", loginPrefix);
+            parameters.put("pattern", escapeLike(loginPrefix) + "%");
+        }
+
+        String property = "u." + sort.getProperty();
+        String direction = sort.isAscending() ? "asc" : "desc";
+        if (after != null) {
+            jpql.append(" and ").append(property).append(sort.isAscending() ? " > " : " < ").append(":cursorValue");
+            parameters.put("cursorValue", after);
+        }
+        jpql.append(" order by ").append(property).append(' ').append(direction);
+
+        TypedQuery<UserSummary> query = entityManager.createQuery(jpql.toString(), UserSummary.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
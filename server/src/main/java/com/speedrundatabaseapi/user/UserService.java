@@ -1,13 +1,21 @@
 package com.speedrundatabaseapi.user;
 
 import com.speedrundatabaseapi.config.JwtService;
+import com.speedrundatabaseapi.config.LoginThrottle;
+import com.speedrundatabaseapi.config.LoginThrottledException;
+import com.speedrundatabaseapi.config.UserDetailsCache;
 import com.speedrundatabaseapi.email.EmailService;
+import com.speedrundatabaseapi.pagination.CursorPage;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +38,11 @@ public class UserService {
     private final JwtService jwtService;
     private final EmailService emailService;
     private final AuthenticationManager authenticationManager;
+    private final UserDetailsCache userDetailsCache;
+    private final LoginThrottle loginThrottle;
+    private final UserAvailabilityService userAvailabilityService;
+    private final UserStatsService userStatsService;
+    private final TransactionTemplate transactionTemplate;
     private final String registrationEmailSubject = "Welcome to the Speedruns Database!";
     private final String registrationEmailText = "Dear Speedrun Enthusiast,\n" +
             "\n" +
@@ -48,47 +61,103 @@ public class UserService {
      * @param jwtService             The JwtService for generating and validating JWT tokens.
      * @param emailService           The EmailService for sending emails.
      * @param authenticationManager  The AuthenticationManager for handling user authentication.
+     * @param userDetailsCache       The cache of resolved users, evicted when a user changes.
+     * @param loginThrottle          The throttle limiting login and registration attempts.
+     * @param userAvailabilityService The service checking whether logins and email addresses are taken.
+     * @param userStatsService       The service maintaining the statistics of users.
+     * @param transactionTemplate    The template running the writes of a registration in one transaction.
      */
     @Autowired
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtService jwtService, EmailService emailService, AuthenticationManager authenticationManager) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtService jwtService, EmailService emailService,
+                       AuthenticationManager authenticationManager, UserDetailsCache userDetailsCache, LoginThrottle loginThrottle,
+                       UserAvailabilityService userAvailabilityService, UserStatsService userStatsService,
+                       TransactionTemplate transactionTemplate) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
         this.emailService = emailService;
         this.authenticationManager = authenticationManager;
+        this.userDetailsCache = userDetailsCache;
+        this.loginThrottle = loginThrottle;
+        this.userAvailabilityService = userAvailabilityService;
+        this.userStatsService = userStatsService;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
-     * Retrieves a list of all users in the database.
+     * Retrieves a page of the user directory.
      *
-     * @return List of all users.
+     * <p>Only the summaries of the users are read, without their ratings, runs and follows.</p>
+     *
+     * @param loginPrefix The prefix the logins must start with, or null for all users.
+     * @param sort        The ordering of the users.
+     * @param cursor      The continuation token returned with the previous page, or null for the first page.
+     * @param limit       The requested page size, or null for the default page size.
+     * @return The page of user summaries.
+     * @throws IllegalArgumentException If the cursor or the page size is invalid.
      */
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    public CursorPage<UserSummary> getUsers(String loginPrefix, UserSort sort, String cursor, Integer limit) {
+        int pageSize = CursorPage.normalizeLimit(limit);
+        Object after = cursor == null ? null : sort.parseCursor(cursor);
+        String prefix = loginPrefix == null || loginPrefix.isEmpty() ? null : loginPrefix;
+        List<UserSummary> users = userRepository.findUsers(prefix, sort, after, pageSize + 1);
+        return CursorPage.of(users, pageSize, sort::cursorOf);
+    }
+
+    /**
+     * Checks whether a login and an email address are still available.
+     *
+     * <p>Checks count towards the same per-address limit as registrations, so the endpoint cannot be used to probe
+     * for registered email addresses at an unlimited rate.</p>
+     *
+     * @param login         The login username to check, or null.
+     * @param email         The email address to check, or null.
+     * @param clientAddress The address of the client checking the values.
+     * @return The availability of the given values.
+     * @throws LoginThrottledException If the client has made too many attempts recently.
+     */
+    public UserAvailability checkAvailability(String login, String email, String clientAddress) {
+        loginThrottle.acquire(null, clientAddress);
+        return new UserAvailability(
+                login, login == null ? null : userAvailabilityService.isLoginAvailable(login),
+                email, email == null ? null : userAvailabilityService.isEmailAvailable(email));
     }
 
     /**
      * Registers a new user in the database.
      *
-     * @param newUser The user to be registered.
+     * <p>The login and the email address are checked with the {@link UserAvailabilityService}, which only queries
+     * the database when they may be taken.</p>
+     *
+     * <p>The throttle, the availability checks and the password hashing run before the transaction starts, so a
+     * registration waiting for the hashing executor holds no database connection. Only the user, its statistics
+     * and the welcome email are written in the transaction; the email is queued in the outbox and sent in the
+     * background, so the registration does not wait for the mail server.</p>
+     *
+     * @param newUser       The user to be registered.
+     * @param clientAddress The address of the client registering the user.
      * @return JWT token for the registered user.
+     * @throws LoginThrottledException If the client has made too many attempts recently.
      */
-    public String registerNewUser(User newUser) {
-        Optional<User> userWithSameEmail = userRepository.findByEmail(newUser.getEmail());
-        Optional<User> userWithSameLogin = userRepository.findByLogin(newUser.getLogin());
-
-        if (userWithSameEmail.isPresent()) {
+    public String registerNewUser(User newUser, String clientAddress) {
+        loginThrottle.acquire(null, clientAddress);
+        if (!userAvailabilityService.isEmailAvailable(newUser.getEmail())) {
             throw new RuntimeException("User with this email already exists");
         }
-        if (userWithSameLogin.isPresent()) {
+        if (!userAvailabilityService.isLoginAvailable(newUser.getLogin())) {
             throw new RuntimeException("User with this login already exists");
         }
 
+        // hashing may wait for the bounded hashing executor, so it runs before any connection is taken
         String hashedPassword = passwordEncoder.encode(newUser.getPassword());
         newUser.setPassword(hashedPassword);
 
-        userRepository.save(newUser);
-        emailService.send(newUser.getEmail(), registrationEmailSubject, registrationEmailText);
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.save(newUser);
+            userAvailabilityService.add(newUser.getLogin(), newUser.getEmail());
+            userStatsService.onUserCreated(newUser.getUserId());
+            emailService.enqueue(newUser.getEmail(), registrationEmailSubject, registrationEmailText);
+        });
         return jwtService.generateToken(newUser);
     }
 
@@ -98,7 +167,10 @@ public class UserService {
      * @param userId The ID of the user to be deleted.
      */
     public void deleteUser(Long userId) {
+        Optional<User> user = userRepository.findById(userId);
         userRepository.deleteById(userId);
+        userStatsService.onUserDeleted(userId);
+        user.ifPresent(deletedUser -> userDetailsCache.evict(deletedUser.getLogin()));
     }
 
     /**
@@ -106,14 +178,22 @@ public class UserService {
      *
      * @param userId             The ID of the user to be updated.
      * @param updatedUserDetails The updated user details.
+     * @throws IllegalArgumentException If the new login or email address belongs to another user.
      */
     public void changeUserDetails(Long userId, User updatedUserDetails) {
         User user = userRepository.findById(userId).orElseThrow(() -> new EntityNotFoundException("User with id " + userId + " not found"));
+        String previousLogin = user.getLogin();
 
-        if (updatedUserDetails.getEmail() != null) {
+        if (updatedUserDetails.getEmail() != null && !updatedUserDetails.getEmail().equals(user.getEmail())) {
+            if (!userAvailabilityService.isEmailAvailable(updatedUserDetails.getEmail())) {
+                throw new IllegalArgumentException("User with this email already exists");
+            }
             user.setEmail(updatedUserDetails.getEmail());
         }
-        if (updatedUserDetails.getLogin() != null) {
+        if (updatedUserDetails.getLogin() != null && !updatedUserDetails.getLogin().equals(previousLogin)) {
+            if (!userAvailabilityService.isLoginAvailable(updatedUserDetails.getLogin())) {
+                throw new IllegalArgumentException("User with this login already exists");
+            }
             user.setLogin(updatedUserDetails.getLogin());
         }
         if (updatedUserDetails.getPassword() != null) {
@@ -125,23 +205,86 @@ public class UserService {
         }
 
         userRepository.save(user);
+        userAvailabilityService.add(user.getLogin(), user.getEmail());
+        userDetailsCache.evict(previousLogin);
+        userDetailsCache.evict(user.getLogin());
     }
 
     /**
      * Authenticates a user based on login credentials and returns a JWT token.
      *
      * @param userLoginRequest The login credentials.
+     * @param clientAddress    The address of the client logging in.
      * @return JWT token for the authenticated user.
+     * @throws LoginThrottledException If the login or the client has made too many attempts recently.
+     */
+    public String login(UserLoginRequest userLoginRequest, String clientAddress) {
+        return jwtService.generateToken(authenticate(userLoginRequest, clientAddress));
+    }
+
+    /**
+     * Authenticates a user based on login credentials and returns an access token and a refresh token.
+     *
+     * @param userLoginRequest The login credentials.
+     * @param clientAddress    The address of the client logging in.
+     * @return The tokens of the authenticated user.
+     * @throws LoginThrottledException If the login or the client has made too many attempts recently.
      */
-    public String login(UserLoginRequest userLoginRequest) {
+    public UserTokens issueTokens(UserLoginRequest userLoginRequest, String clientAddress) {
+        return issueTokens(authenticate(userLoginRequest, clientAddress));
+    }
+
+    private User authenticate(UserLoginRequest userLoginRequest, String clientAddress) {
+        loginThrottle.acquire(userLoginRequest.getLogin(), clientAddress);
         authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         userLoginRequest.getLogin(),
                         userLoginRequest.getPassword()
                 )
         );
-        User user = userRepository.findByLogin(userLoginRequest.getLogin()).orElseThrow(() -> new EntityNotFoundException("User with login: " + userLoginRequest.getLogin() + " not found"));
-        return jwtService.generateToken(user);
+        loginThrottle.reset(userLoginRequest.getLogin());
+        return userRepository.findByLogin(userLoginRequest.getLogin()).orElseThrow(() -> new EntityNotFoundException("User with login: " + userLoginRequest.getLogin() + " not found"));
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and refresh token.
+     *
+     * <p>The user is looked up again, so the new access token carries the current login and role, and
+     * a deleted user cannot renew its tokens.</p>
+     *
+     * @param refreshToken The refresh token.
+     * @return The new tokens of the user.
+     * @throws BadCredentialsException If the token is not a valid refresh token or its user no longer exists.
+     */
+    public UserTokens refreshTokens(String refreshToken) {
+        Claims claims;
+        try {
+            claims = jwtService.verifyToken(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+        Number userId = claims.get("id", Number.class);
+        if (!jwtService.isRefreshToken(claims) || userId == null) {
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+        User user = userRepository.findById(userId.longValue()).orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        return issueTokens(user);
+    }
+
+    private UserTokens issueTokens(User user) {
+        return new UserTokens(jwtService.generateToken(user), jwtService.generateRefreshToken(user),
+                jwtService.getAccessTokenTtl().toSeconds());
+    }
+
+    /**
+     * Retrieves the profile statistics of a user.
+     *
+     * @param userId The ID of the user.
+     * @return The statistics of the user.
+     * @throws EntityNotFoundException If the user does not exist.
+     */
+    public UserStats getUserStats(Long userId) {
+        return userStatsService.getStats(userId);
     }
 
     /**
@@ -0,0 +1,107 @@
+package com.speedrundatabaseapi.user;
+
+import com.speedrundatabaseapi.pagination.CursorCodec;
+
+/**
+ * Enumeration of the orderings supported by the user directory.
+ *
+ * <p>Users are sorted either by login or by ID. Both are unique, so the sort key alone is a stable keyset
+ * position. The enum also encodes and decodes the continuation tokens of the ordering.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ */
+public enum UserSort {
+    LOGIN_ASC("login", true),
+    LOGIN_DESC("login", false),
+    ID_ASC("userId", true),
+    ID_DESC("userId", false);
+
+    private final String property;
+    private final boolean ascending;
+
+    UserSort(String property, boolean ascending) {
+        this.property = property;
+        this.ascending = ascending;
+    }
+
+    /**
+     * Resolves the ordering from request parameters.
+     *
+     * <p>Users are sorted by login, ascending, unless specified otherwise.</p>
+     *
+     * @param sort  The attribute to sort by ("login" or "id"), may be null.
+     * @param order The direction ("asc" or "desc"), may be null.
+     * @return The resolved ordering.
+     * @throws IllegalArgumentException If the attribute or direction is not supported.
+     */
+    public static UserSort of(String sort, String order) {
+        String property = sort == null ? "login" : sort.toLowerCase();
+        if (!property.equals("login") && !property.equals("id")) {
+            throw new IllegalArgumentException("Users can only be sorted by login or id");
+        }
+        boolean ascending;
+        if (order == null || order.equalsIgnoreCase("asc")) {
+            ascending = true;
+        } else if (order.equalsIgnoreCase("desc")) {
+            ascending = false;
+        } else {
+            throw new IllegalArgumentException("Order must be asc or desc");
+        }
+        if (property.equals("login")) {
+            return ascending ? LOGIN_ASC : LOGIN_DESC;
+        }
+        return ascending ? ID_ASC : ID_DESC;
+    }
+
+    /**
+     * Gets the name of the sorted User attribute.
+     *
+     * @return The attribute name.
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Checks whether the ordering is ascending.
+     *
+     * @return True for ascending order, false for descending.
+     */
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    /**
+     * Encodes the continuation token pointing after the given user.
+     *
+     * @param user The last user on the page.
+     * @return The continuation token.
+     */
+    public String cursorOf(UserSummary user) {
+        String value = property.equals("login") ? user.getLogin() : String.valueOf(user.getUserId());
+        return CursorCodec.encode(name(), value);
+    }
+
+    /**
+     * Decodes a continuation token produced by {@link #cursorOf(UserSummary)}.
+     *
+     * @param cursor The continuation token.
+     * @return The sort key of the last user on the previous page: the login or the user ID.
+     * @throws IllegalArgumentException If the token is malformed or belongs to another ordering.
+     */
+    public Object parseCursor(String cursor) {
+        String[] parts = CursorCodec.decode(cursor, 2);
+        if (!parts[0].equals(name())) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+        if (property.equals("login")) {
+            return parts[1];
+        }
+        try {
+            return Long.parseLong(parts[1]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.speedrundatabaseapi.user;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Entity class holding the profile statistics of a user.
+ *
+ * <p>The user_stats table has one row per user with counters of its runs, confirmed runs, personal bests,
+ * followers, followed users and given ratings. The counters are changed only with atomic deltas by
+ * {@link UserStatsRepository#add}, on the writes that change them, so reading the statistics of a user is a
+ * single primary key lookup and the entity itself is read-only.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see UserStatsService
+ */
+@Entity
+@Table(name = "user_stats")
+public class UserStats {
+
+    @Id
+    @Column(name = "user_id")
+    private long userId;
+
+    @Column(name = "run_count", nullable = false)
+    private long runCount;
+
+    @Column(name = "confirmed_run_count", nullable = false)
+    private long confirmedRunCount;
+
+    @Column(name = "personal_best_count", nullable = false)
+    private long personalBestCount;
+
+    @Column(name = "follower_count", nullable = false)
+    private long followerCount;
+
+    @Column(name = "following_count", nullable = false)
+    private long followingCount;
+
+    @Column(name = "rating_count", nullable = false)
+    private long ratingCount;
+
+    /**
+     * Default constructor for the UserStats class.
+     */
+    public UserStats() {
+    }
+
+    /**
+     * Getter for the user ID.
+     *
+     * @return The user ID.
+     */
+    public long getUserId() {
+        return userId;
+    }
+
+    /**
+     * Getter for the number of runs of the user, confirmed or not.
+     *
+     * @return The number of runs.
+     */
+    public long getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * Getter for the number of confirmed runs of the user.
+     *
+     * @return The number of confirmed runs.
+     */
+    public long getConfirmedRunCount() {
+        return confirmedRunCount;
+    }
+
+    /**
+     * Getter for the number of personal bests of the user.
+     *
+     * @return The number of personal bests.
+     */
+    public long getPersonalBestCount() {
+        return personalBestCount;
+    }
+
+    /**
+     * Getter for the number of users following the user.
+     *
+     * @return The number of followers.
+     */
+    public long getFollowerCount() {
+        return followerCount;
+    }
+
+    /**
+     * Getter for the number of users followed by the user.
+     *
+     * @return The number of followed users.
+     */
+    public long getFollowingCount() {
+        return followingCount;
+    }
+
+    /**
+     * Getter for the number of game ratings given by the user.
+     *
+     * @return The number of ratings.
+     */
+    public long getRatingCount() {
+        return ratingCount;
+    }
+}
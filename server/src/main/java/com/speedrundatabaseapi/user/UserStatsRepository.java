@@ -0,0 +1,69 @@
+package com.speedrundatabaseapi.user;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for UserStats entities.
+ *
+ * <p>The counters are only changed with atomic deltas, so concurrent writes never lose updates.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see UserStats
+ */
+@Repository
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    /**
+     * Adds deltas to the counters of a user, creating its row if it does not exist yet.
+     *
+     * @param userId        The ID of the user.
+     * @param runs          The change of the number of runs.
+     * @param confirmedRuns The change of the number of confirmed runs.
+     * @param personalBests The change of the number of personal bests.
+     * @param followers     The change of the number of followers.
+     * @param following     The change of the number of followed users.
+     * @param ratings       The change of the number of given ratings.
+     */
+    @Modifying
+    @Query(value = "insert into {h-schema}user_stats as s (user_id, run_count, confirmed_run_count, personal_best_count, " +
+            "follower_count, following_count, rating_count) " +
+            "values (:userId, :runs, :confirmedRuns, :personalBests, :followers, :following, :ratings) " +
+            "on conflict (user_id) do update set run_count = s.run_count + excluded.run_count, " +
+            "confirmed_run_count = s.confirmed_run_count + excluded.confirmed_run_count, " +
+            "personal_best_count = s.personal_best_count + excluded.personal_best_count, " +
+            "follower_count = s.follower_count + excluded.follower_count, " +
+            "following_count = s.following_count + excluded.following_count, " +
+            "rating_count = s.rating_count + excluded.rating_count", nativeQuery = true)
+    void add(@Param("userId") long userId, @Param("runs") long runs, @Param("confirmedRuns") long confirmedRuns,
+             @Param("personalBests") long personalBests, @Param("followers") long followers,
+             @Param("following") long following, @Param("ratings") long ratings);
+
+    /**
+     * Recomputes the statistics of all users from the runs, follows and ratings tables.
+     *
+     * <p>Personal bests are counted as the distinct game, type and platform combinations of the confirmed runs of
+     * a user, which is how the personal_best table is built, so the result does not depend on whether that table
+     * has been built already. Should only be run on an empty table.</p>
+     *
+     * @return The number of inserted rows.
+     */
+    @Modifying
+    @Query(value = "insert into {h-schema}user_stats (user_id, run_count, confirmed_run_count, personal_best_count, " +
+            "follower_count, following_count, rating_count) " +
+            "select u.user_id, " +
+            "(select count(*) from {h-schema}run r where r.user_id = u.user_id), " +
+            "(select count(*) from {h-schema}run r where r.user_id = u.user_id and r.confirmed_by <> 0), " +
+            "(select count(*) from (select distinct r.game_id, r.type, r.platform_id from {h-schema}run r " +
+            "where r.user_id = u.user_id and r.confirmed_by <> 0 and r.time is not null and r.game_id is not null " +
+            "and r.type is not null and r.platform_id is not null) pb), " +
+            "(select count(*) from {h-schema}follow f where f.following_id = u.user_id), " +
+            "(select count(*) from {h-schema}follow f where f.follower_id = u.user_id), " +
+            "(select count(*) from {h-schema}rating g where g.user_id = u.user_id) " +
+            "from {h-schema}\"user\" u", nativeQuery = true)
+    int rebuild();
+}
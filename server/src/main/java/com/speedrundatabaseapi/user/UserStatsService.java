@@ -0,0 +1,191 @@
+package com.speedrundatabaseapi.user;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Service maintaining the profile statistics of users.
+ *
+ * <p>The services writing runs, personal bests, follows and ratings report every change to this service within
+ * their own transaction, and the change is applied to the user_stats row of the user as an atomic delta. The
+ * statistics of a user are then read with a single primary key lookup instead of loading the collections of the
+ * user. The table is built from the existing data when the application starts with an empty table.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see UserStats
+ */
+@Service
+public class UserStatsService {
+
+    private final Logger logger = LoggerFactory.getLogger(UserStatsService.class);
+    private final UserStatsRepository userStatsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final String schema;
+
+    /**
+     * Constructor for UserStatsService, injecting dependencies.
+     *
+     * @param userStatsRepository The repository of the user statistics.
+     * @param jdbcTemplate        The JdbcTemplate used to apply the follow changes of many users with one batch.
+     * @param schema              The database schema of the application tables.
+     */
+    @Autowired
+    public UserStatsService(UserStatsRepository userStatsRepository, JdbcTemplate jdbcTemplate,
+                            @Value("${spring.jpa.properties.hibernate.default_schema}") String schema) {
+        this.userStatsRepository = userStatsRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.schema = schema;
+    }
+
+    /**
+     * Builds the statistics of all users if the table is empty, e.g. after the first deployment.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (userStatsRepository.count() == 0) {
+            int inserted = userStatsRepository.rebuild();
+            logger.info("User statistics rebuilt, " + inserted + " users");
+        }
+    }
+
+    /**
+     * Retrieves the statistics of a user.
+     *
+     * @param userId The ID of the user.
+     * @return The statistics of the user.
+     * @throws EntityNotFoundException If the user does not exist.
+     */
+    public UserStats getStats(long userId) {
+        return userStatsRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("User with id " + userId + " not found"));
+    }
+
+    /**
+     * Retrieves the number of followers of a user.
+     *
+     * @param userId The ID of the user.
+     * @return The number of followers, 0 if the user has no statistics.
+     */
+    public long getFollowerCount(long userId) {
+        return userStatsRepository.findById(userId).map(UserStats::getFollowerCount).orElse(0L);
+    }
+
+    /**
+     * Creates the statistics of a newly registered user.
+     *
+     * @param userId The ID of the user.
+     */
+    public void onUserCreated(long userId) {
+        userStatsRepository.add(userId, 0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Removes the statistics of a deleted user.
+     *
+     * @param userId The ID of the user.
+     */
+    public void onUserDeleted(long userId) {
+        if (userStatsRepository.existsById(userId)) {
+            userStatsRepository.deleteById(userId);
+        }
+    }
+
+    /**
+     * Records runs added to or removed from a user.
+     *
+     * @param userId        The ID of the user.
+     * @param runs          The change of the number of runs.
+     * @param confirmedRuns The change of the number of confirmed runs.
+     */
+    public void onRunsChanged(long userId, long runs, long confirmedRuns) {
+        if (runs != 0 || confirmedRuns != 0) {
+            userStatsRepository.add(userId, runs, confirmedRuns, 0, 0, 0, 0);
+        }
+    }
+
+    /**
+     * Records runs added to many users at once, e.g. by an import.
+     *
+     * @param runsByUser The number of added runs by user ID.
+     */
+    public void onRunsAdded(Map<Long, Long> runsByUser) {
+        runsByUser.forEach((userId, runs) -> onRunsChanged(userId, runs, 0));
+    }
+
+    /**
+     * Records a personal best created or removed for a user.
+     *
+     * @param userId The ID of the user.
+     * @param delta  1 for a new personal best, -1 for a removed one.
+     */
+    public void onPersonalBestsChanged(long userId, long delta) {
+        userStatsRepository.add(userId, 0, 0, delta, 0, 0, 0);
+    }
+
+    /**
+     * Records a follow created or removed between two users.
+     *
+     * @param followerId  The ID of the following user.
+     * @param followingId The ID of the followed user.
+     * @param delta       1 for a new follow, -1 for a removed one.
+     */
+    public void onFollowChanged(long followerId, long followingId, long delta) {
+        // rows are always updated in the order of user IDs, so two users following each other cannot deadlock
+        if (followerId < followingId) {
+            userStatsRepository.add(followerId, 0, 0, 0, 0, delta, 0);
+            userStatsRepository.add(followingId, 0, 0, 0, delta, 0, 0);
+        } else {
+            userStatsRepository.add(followingId, 0, 0, 0, delta, 0, 0);
+            userStatsRepository.add(followerId, 0, 0, 0, 0, delta, 0);
+        }
+    }
+
+    /**
+     * Records follows created or removed between many users at once, e.g. by a batch follow request. The rows
+     * of all users are upserted with one JDBC batch.
+     *
+     * @param followersByUser The change of the number of followers by user ID.
+     * @param followingByUser The change of the number of followed users by user ID.
+     */
+    public void onFollowsChanged(Map<Long, Long> followersByUser, Map<Long, Long> followingByUser) {
+        // rows are always updated in the order of user IDs, so concurrent batches cannot deadlock
+        Set<Long> userIds = new TreeSet<>(followersByUser.keySet());
+        userIds.addAll(followingByUser.keySet());
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            rows.add(new Object[]{userId, followersByUser.getOrDefault(userId, 0L), followingByUser.getOrDefault(userId, 0L)});
+        }
+        jdbcTemplate.batchUpdate("insert into " + schema + ".user_stats as s (user_id, run_count, confirmed_run_count, " +
+                "personal_best_count, follower_count, following_count, rating_count) values (?, 0, 0, 0, ?, ?, 0) " +
+                "on conflict (user_id) do update set follower_count = s.follower_count + excluded.follower_count, " +
+                "following_count = s.following_count + excluded.following_count", rows);
+    }
+
+    /**
+     * Records a new rating given by a user.
+     *
+     * @param userId The ID of the user.
+     */
+    public void onRatingAdded(long userId) {
+        userStatsRepository.add(userId, 0, 0, 0, 0, 0, 1);
+    }
+}
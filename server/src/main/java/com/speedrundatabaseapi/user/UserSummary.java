@@ -0,0 +1,71 @@
+package com.speedrundatabaseapi.user;
+
+/**
+ * Read-only summary of a user, holding the same fields as the JSON representation of a User.
+ *
+ * <p>Summaries are selected directly from the user table with a constructor expression, so listings of users
+ * never load the entities or touch the tables of their ratings, runs and follows.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see UserCustomSerializer
+ * @see UserRepository
+ */
+public class UserSummary {
+
+    private final long userId;
+    private final String login;
+    private final String email;
+    private final UserRole role;
+
+    /**
+     * Parameterized constructor for the UserSummary class.
+     *
+     * @param userId The ID of the user.
+     * @param login  The login username of the user.
+     * @param email  The email address of the user.
+     * @param role   The role of the user.
+     */
+    public UserSummary(long userId, String login, String email, UserRole role) {
+        this.userId = userId;
+        this.login = login;
+        this.email = email;
+        this.role = role;
+    }
+
+    /**
+     * Getter for the user ID.
+     *
+     * @return The user ID.
+     */
+    public long getUserId() {
+        return userId;
+    }
+
+    /**
+     * Getter for the login username.
+     *
+     * @return The login username.
+     */
+    public String getLogin() {
+        return login;
+    }
+
+    /**
+     * Getter for the email address.
+     *
+     * @return The email address.
+     */
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * Getter for the role of the user.
+     *
+     * @return The role of the user.
+     */
+    public UserRole getRole() {
+        return role;
+    }
+}
@@ -0,0 +1,57 @@
+package com.speedrundatabaseapi.user;
+
+/**
+ * Represents the pair of tokens issued to a user: a short-lived access token sent with every request and
+ * a long-lived refresh token exchanged for new tokens.
+ *
+ * <p>This class is designed to be used as a response body of the token endpoints of the UserController.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see UserController
+ */
+public class UserTokens {
+    private final String accessToken;
+    private final String refreshToken;
+    private final long expiresIn;
+
+    /**
+     * Parameterized constructor for UserTokens.
+     *
+     * @param accessToken  The access token.
+     * @param refreshToken The refresh token.
+     * @param expiresIn    The lifetime of the access token in seconds.
+     */
+    public UserTokens(String accessToken, String refreshToken, long expiresIn) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
+    }
+
+    /**
+     * Getter for the access token.
+     *
+     * @return The access token.
+     */
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    /**
+     * Getter for the refresh token.
+     *
+     * @return The refresh token.
+     */
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    /**
+     * Getter for the lifetime of the access token.
+     *
+     * @return The lifetime of the access token in seconds.
+     */
+    public long getExpiresIn() {
+        return expiresIn;
+    }
+}
@@ -0,0 +1,85 @@
+package com.speedrundatabaseapi.config;
+
+import com.speedrundatabaseapi.user.User;
+import com.speedrundatabaseapi.user.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static io.jsonwebtoken.SignatureAlgorithm.HS256;
+
+/**
+ * JMH benchmark of the validation of a JWT token, as done once per authenticated request.
+ *
+ * <p>Compares the previous validation, which parsed the token twice and rebuilt the parser and the signing key
+ * on every parse, with a single parse by a prebuilt parser and with the cache of verified tokens. Run with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.speedrundatabaseapi.config.JwtServiceBenchmark}.</p>
+ *
+ * @author Paweł Hajdo
+ * @version 1.0
+ * @see JwtService
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private String secretKey;
+    private User user;
+    private String token;
+    private JwtService uncachedJwtService;
+    private JwtService cachedJwtService;
+
+    @Setup
+    public void setUp() {
+        secretKey = Encoders.BASE64.encode(Keys.secretKeyFor(HS256).getEncoded());
+        user = new User(1, "runner", "password", UserRole.USER, "runner@example.com", null, null);
+        uncachedJwtService = new JwtService(secretKey, 0);
+        cachedJwtService = new JwtService(secretKey, 10000);
+        token = cachedJwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean parseTwiceRebuildingKey() {
+        String username = parseRebuildingKey(token).getSubject();
+        return username.equals(user.getUsername()) && !parseRebuildingKey(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean parseOnce() {
+        return uncachedJwtService.isTokenValid(uncachedJwtService.verifyToken(token), user);
+    }
+
+    @Benchmark
+    public boolean cachedVerification() {
+        return cachedJwtService.isTokenValid(cachedJwtService.verifyToken(token), user);
+    }
+
+    private Claims parseRebuildingKey(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtServiceBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,101 @@
+package com.speedrundatabaseapi.email;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.Message;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the email outbox against an in-process SMTP server.
+ */
+@SpringBootTest(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "spring.mail.username=",
+        "spring.mail.password=",
+        "spring.mail.properties.mail.smtp.auth=false",
+        "spring.mail.properties.mail.smtp.starttls.enable=false",
+        "email.outbox.poll-interval=PT1H"
+})
+class EmailOutboxTests {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private EmailService emailService;
+    @Autowired
+    private EmailOutboxSender emailOutboxSender;
+    @Autowired
+    private OutboxEmailRepository outboxEmailRepository;
+
+    private String recipient;
+
+    @AfterEach
+    void tearDown() {
+        outboxEmailRepository.findAll().stream()
+                .filter(email -> email.getRecipient().equals(recipient))
+                .forEach(outboxEmailRepository::delete);
+    }
+
+    @Test
+    void queuedEmailIsSentInBackground() throws Exception {
+        recipient = "outbox-" + UUID.randomUUID() + "@example.com";
+        emailService.enqueue(recipient, "Welcome", "Hello from the outbox");
+
+        emailOutboxSender.drain();
+
+        assertTrue(greenMail.waitForIncomingEmail(5000, 1));
+        MimeMessage delivered = Arrays.stream(greenMail.getReceivedMessages())
+                .filter(message -> hasRecipient(message, recipient))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("Welcome", delivered.getSubject());
+        OutboxEmail email = findByRecipient(recipient);
+        assertEquals(OutboxEmailStatus.SENT, email.getStatus());
+        assertEquals(1, email.getAttempts());
+    }
+
+    @Test
+    void failedEmailIsRetriedWithBackoff() {
+        recipient = "outbox-" + UUID.randomUUID() + "@example.com";
+        emailService.enqueue(recipient, "Welcome", "Hello from the outbox");
+        greenMail.stop();
+
+        emailOutboxSender.drain();
+
+        OutboxEmail email = findByRecipient(recipient);
+        assertEquals(OutboxEmailStatus.PENDING, email.getStatus());
+        assertEquals(1, email.getAttempts());
+        assertTrue(email.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertEquals(emailOutboxSender.backoff(2), emailOutboxSender.backoff(1).multipliedBy(2));
+    }
+
+    private OutboxEmail findByRecipient(String recipient) {
+        return outboxEmailRepository.findAll().stream()
+                .filter(email -> email.getRecipient().equals(recipient))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static boolean hasRecipient(MimeMessage message, String recipient) {
+        try {
+            return Arrays.stream(message.getRecipients(Message.RecipientType.TO))
+                    .anyMatch(address -> address.toString().equals(recipient));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.speedrundatabaseapi.follow;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests of the in-memory follow graph index, built from rows served by a stubbed JdbcTemplate.
+ */
+class FollowGraphTests {
+
+    @Test
+    void buildGroupsAndSortsBothDirections() {
+        FollowGraph graph = new FollowGraph(new StubJdbcTemplate(new long[][]{{1, 3}, {2, 1}, {1, 2}, {3, 1}}, null), "s");
+        graph.build();
+
+        assertArrayEquals(new long[]{2, 3}, graph.getFollowing(1));
+        assertArrayEquals(new long[]{2, 3}, graph.getFollowers(1));
+        assertArrayEquals(new long[]{1}, graph.getFollowers(2));
+        assertArrayEquals(new long[0], graph.getFollowing(4));
+        assertEquals(2, graph.getFollowingCount(1));
+    }
+
+    @Test
+    void followsAndUnfollowsKeepArraysSorted() {
+        FollowGraph graph = new FollowGraph(new StubJdbcTemplate(new long[0][], null), "s");
+        graph.build();
+
+        graph.onFollowed(1, 30);
+        graph.onFollowed(1, 10);
+        graph.onFollowed(1, 20);
+        graph.onFollowed(1, 20);
+        assertArrayEquals(new long[]{10, 20, 30}, graph.getFollowing(1));
+        assertArrayEquals(new long[]{1}, graph.getFollowers(20));
+
+        graph.onUnfollowed(1, 20);
+        graph.onUnfollowed(1, 99);
+        assertArrayEquals(new long[]{10, 30}, graph.getFollowing(1));
+        assertArrayEquals(new long[0], graph.getFollowers(20));
+        assertFalse(graph.isFollowing(1, 20));
+        assertTrue(graph.isFollowing(1, 30));
+
+        graph.onUnfollowed(1, 10);
+        graph.onUnfollowed(1, 30);
+        assertArrayEquals(new long[0], graph.getFollowing(1));
+        assertEquals(0, graph.getFollowingCount(1));
+    }
+
+    @Test
+    void mutualFollowsAreTheIntersectionOfBothDirections() {
+        FollowGraph graph = new FollowGraph(new StubJdbcTemplate(
+                new long[][]{{1, 2}, {2, 1}, {1, 3}, {4, 1}, {1, 5}, {5, 1}}, null), "s");
+        graph.build();
+
+        assertArrayEquals(new long[]{2, 5}, graph.getMutual(1));
+        assertArrayEquals(new long[]{1}, graph.getMutual(2));
+        assertArrayEquals(new long[0], graph.getMutual(3));
+    }
+
+    @Test
+    void returnedArraysAreCopies() {
+        FollowGraph graph = new FollowGraph(new StubJdbcTemplate(new long[][]{{1, 2}}, null), "s");
+        graph.build();
+
+        graph.getFollowing(1)[0] = 99;
+        graph.getFollowers(2)[0] = 99;
+
+        assertArrayEquals(new long[]{2}, graph.getFollowing(1));
+        assertArrayEquals(new long[]{1}, graph.getFollowers(2));
+    }
+
+    @Test
+    void changesMadeDuringBuildAreReplayedOnTheBuiltIndex() {
+        StubJdbcTemplate jdbcTemplate = new StubJdbcTemplate(new long[][]{{1, 2}, {1, 3}}, null);
+        FollowGraph graph = new FollowGraph(jdbcTemplate, "s");
+        jdbcTemplate.duringQuery = () -> {
+            // the snapshot still holds 1 -> 3, which is unfollowed while the rows are read
+            graph.onFollowed(1, 4);
+            graph.onFollowed(5, 1);
+            graph.onUnfollowed(1, 3);
+        };
+        graph.build();
+
+        assertArrayEquals(new long[]{2, 4}, graph.getFollowing(1));
+        assertArrayEquals(new long[]{5}, graph.getFollowers(1));
+        assertArrayEquals(new long[0], graph.getFollowers(3));
+
+        graph.onFollowed(1, 6);
+        assertArrayEquals(new long[]{2, 4, 6}, graph.getFollowing(1));
+    }
+
+    private static final class StubJdbcTemplate extends JdbcTemplate {
+
+        private final long[][] rows;
+        private Runnable duringQuery;
+
+        private StubJdbcTemplate(long[][] rows, Runnable duringQuery) {
+            this.rows = rows;
+            this.duringQuery = duringQuery;
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler handler) {
+            if (duringQuery != null) {
+                duringQuery.run();
+            }
+            try {
+                for (long[] row : rows) {
+                    ResultSet resultSet = mock(ResultSet.class);
+                    when(resultSet.getLong(1)).thenReturn(row[0]);
+                    when(resultSet.getLong(2)).thenReturn(row[1]);
+                    handler.processRow(resultSet);
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
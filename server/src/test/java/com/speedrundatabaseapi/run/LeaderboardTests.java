@@ -0,0 +1,130 @@
+package com.speedrundatabaseapi.run;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the order-statistic treap behind a single leaderboard.
+ */
+class LeaderboardTests {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Test
+    void equalTimesShareRankOrderedBySubmissionDate() {
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.add(entry(1, 90, 3));
+        leaderboard.add(entry(2, 60, 2));
+        leaderboard.add(entry(3, 60, 1));
+        leaderboard.add(entry(4, 120, 0));
+
+        List<RankedRun> runs = leaderboard.page(0, 10).getRuns();
+
+        assertEquals(List.of(3L, 2L, 1L, 4L), runs.stream().map(RankedRun::getRunId).toList());
+        assertEquals(List.of(1, 1, 3, 4), runs.stream().map(RankedRun::getRank).toList());
+    }
+
+    @Test
+    void rankOfCountsOnlyStrictlyFasterRuns() {
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.add(entry(1, 60, 0));
+        leaderboard.add(entry(2, 60, 1));
+        leaderboard.add(entry(3, 90, 2));
+        leaderboard.add(entry(4, 120, 3));
+
+        RunRank tied = leaderboard.rankOf(Duration.ofSeconds(60), true);
+        assertEquals(1, tied.getRank());
+        assertEquals(4, tied.getTotal());
+        assertEquals(100.0, tied.getPercentile());
+        assertTrue(tied.isRanked());
+
+        RunRank between = leaderboard.rankOf(Duration.ofSeconds(100), false);
+        assertEquals(4, between.getRank());
+        assertEquals(25.0, between.getPercentile());
+        assertFalse(between.isRanked());
+
+        assertEquals(5, leaderboard.rankOf(Duration.ofSeconds(500), false).getRank());
+        assertEquals(100.0, new Leaderboard().rankOf(Duration.ofSeconds(1), false).getPercentile());
+    }
+
+    @Test
+    void removedRunCanBeAddedAgain() {
+        Leaderboard leaderboard = new Leaderboard();
+        LeaderboardEntry removed = entry(1, 60, 0);
+        leaderboard.add(removed);
+        leaderboard.add(entry(2, 90, 1));
+        leaderboard.add(entry(3, 30, 2));
+
+        leaderboard.remove(removed);
+        assertEquals(2, leaderboard.size());
+        assertEquals(List.of(3L, 2L), runIds(leaderboard.page(0, 10)));
+        assertEquals(2, leaderboard.rankOf(Duration.ofSeconds(90), true).getRank());
+
+        leaderboard.add(removed);
+        assertEquals(3, leaderboard.size());
+        assertEquals(List.of(3L, 1L, 2L), runIds(leaderboard.page(0, 10)));
+    }
+
+    @Test
+    void pagesFollowOffsetsAndEndAtTheLastRun() {
+        Leaderboard leaderboard = new Leaderboard();
+        for (int i = 1; i <= 5; i++) {
+            leaderboard.add(entry(i, i * 10, i));
+        }
+
+        LeaderboardPage middle = leaderboard.page(2, 2);
+        assertEquals(5, middle.getTotal());
+        assertEquals(2, middle.getOffset());
+        assertEquals(List.of(3L, 4L), runIds(middle));
+        assertEquals(3, middle.getRuns().get(0).getRank());
+
+        assertEquals(List.of(5L), runIds(leaderboard.page(4, 2)));
+
+        LeaderboardPage pastTheEnd = leaderboard.page(10, 2);
+        assertEquals(5, pastTheEnd.getTotal());
+        assertTrue(pastTheEnd.getRuns().isEmpty());
+    }
+
+    @Test
+    void staysSortedThroughRandomAddsAndRemoves() {
+        Random random = new Random(42);
+        Leaderboard leaderboard = new Leaderboard();
+        List<LeaderboardEntry> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (!expected.isEmpty() && random.nextInt(3) == 0) {
+                LeaderboardEntry removed = expected.remove(random.nextInt(expected.size()));
+                leaderboard.remove(removed);
+            } else {
+                LeaderboardEntry added = entry(i, random.nextInt(50), random.nextInt(1000));
+                leaderboard.add(added);
+                expected.add(added);
+            }
+        }
+        expected.sort(Leaderboard.ORDER);
+
+        assertEquals(expected.size(), leaderboard.size());
+        assertEquals(expected.stream().map(LeaderboardEntry::getRunId).toList(),
+                runIds(leaderboard.page(0, expected.size())));
+        Duration time = expected.get(expected.size() / 2).getTime();
+        long faster = expected.stream().filter(entry -> entry.getTime().compareTo(time) < 0).count();
+        assertEquals(faster + 1, leaderboard.rankOf(time, true).getRank());
+    }
+
+    private static List<Long> runIds(LeaderboardPage page) {
+        return page.getRuns().stream().map(RankedRun::getRunId).toList();
+    }
+
+    private static LeaderboardEntry entry(long runId, int seconds, int minutesAfterStart) {
+        return new LeaderboardEntry(runId, runId, 1, "any%", 1, Duration.ofSeconds(seconds),
+                START.plusMinutes(minutesAfterStart), null);
+    }
+}
@@ -0,0 +1,116 @@
+package com.speedrundatabaseapi.run;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.speedrundatabaseapi.game.Game;
+import com.speedrundatabaseapi.game.GameService;
+import com.speedrundatabaseapi.pagination.CursorPage;
+import com.speedrundatabaseapi.platform.Platform;
+import com.speedrundatabaseapi.platform.PlatformType;
+import com.speedrundatabaseapi.user.User;
+import com.speedrundatabaseapi.user.UserRole;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Regression tests guarding the number of SQL statements issued by the run read paths.
+ *
+ * <p>Every test serializes the runs it reads, so lazily loaded users, games or platforms would show up
+ * as additional statements.</p>
+ */
+@SpringBootTest
+@Transactional
+class RunQueryCountTests {
+
+    private static final int USERS = 5;
+    private static final int RUNS = 30;
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private RunService runService;
+    @Autowired
+    private GameService gameService;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+    private long gameId;
+    private long runId;
+
+    @BeforeEach
+    void setUp() {
+        Platform platform = new Platform(PlatformType.PC, "query-count-platform");
+        entityManager.persist(platform);
+        Game game = new Game();
+        game.setName("query-count-game");
+        entityManager.persist(game);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setLogin("query-count-user-" + i);
+            user.setEmail("query-count-user-" + i + "@example.com");
+            user.setPassword("password");
+            user.setRole(UserRole.USER);
+            entityManager.persist(user);
+            users.add(user);
+        }
+        for (int i = 0; i < RUNS; i++) {
+            Run run = new Run(0, users.get(i % USERS), game, Duration.ofSeconds(60 + i), "Any%", "video", platform, 0);
+            entityManager.persist(run);
+            runId = run.getRunId();
+        }
+        gameId = game.getGameId();
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void runListingPageIsLoadedWithOneStatement() throws Exception {
+        RunFilter filter = new RunFilter();
+        filter.setGameId(gameId);
+        CursorPage<Run> page = runService.getRuns(filter, RunSort.of(null, null), null, 20);
+        objectMapper.writeValueAsString(page);
+
+        assertEquals(20, page.getItems().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void runsInGamePageIsLoadedWithConstantStatements() throws Exception {
+        CursorPage<Run> page = gameService.getRunsInGame(gameId, "Any%", null, RunSort.of("date", "desc"), null, 20);
+        objectMapper.writeValueAsString(page);
+
+        assertEquals(20, page.getItems().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void runDetailsAreLoadedWithOneStatement() throws Exception {
+        Run run = runService.getRunDetails(runId);
+        objectMapper.writeValueAsString(run);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
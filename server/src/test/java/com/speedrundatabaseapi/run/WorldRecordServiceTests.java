@@ -0,0 +1,132 @@
+package com.speedrundatabaseapi.run;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests of the incremental world record history updates against a full rebuild, on in-memory repositories.
+ */
+class WorldRecordServiceTests {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 12, 0);
+    private static final Comparator<LeaderboardEntry> SWEEP_ORDER = Comparator
+            .comparingLong(LeaderboardEntry::getGameId)
+            .thenComparing(LeaderboardEntry::getType)
+            .thenComparingLong(LeaderboardEntry::getPlatformId)
+            .thenComparing(LeaderboardEntry::getDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingLong(LeaderboardEntry::getRunId);
+
+    private final List<WorldRecord> records = new ArrayList<>();
+    private final List<LeaderboardEntry> confirmed = new ArrayList<>();
+    private WorldRecordService worldRecordService;
+
+    @BeforeEach
+    void setUp() {
+        WorldRecordRepository worldRecordRepository = mock(WorldRecordRepository.class);
+        when(worldRecordRepository.findHistory(anyLong(), any(), any())).thenAnswer(invocation -> records.stream()
+                .filter(record -> record.getGameId() == invocation.<Long>getArgument(0)
+                        && record.getType().equals(invocation.getArgument(1))
+                        && record.getPlatformId() == invocation.<Long>getArgument(2))
+                .toList());
+        when(worldRecordRepository.save(any())).thenAnswer(invocation -> {
+            records.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        doAnswer(invocation -> records.removeIf(record -> record.getGameId() == invocation.<Long>getArgument(0)
+                && record.getType().equals(invocation.getArgument(1))
+                && record.getPlatformId() == invocation.<Long>getArgument(2)))
+                .when(worldRecordRepository).deleteHistory(anyLong(), any(), anyLong());
+        doAnswer(invocation -> {
+            records.clear();
+            return null;
+        }).when(worldRecordRepository).deleteAllInBatch();
+
+        RunRepository runRepository = mock(RunRepository.class);
+        when(runRepository.streamConfirmedRunsByDate()).thenAnswer(invocation -> confirmed.stream().sorted(SWEEP_ORDER));
+        when(runRepository.streamConfirmedRunsByDate(anyLong(), any(), anyLong())).thenAnswer(invocation -> confirmed.stream()
+                .filter(entry -> entry.getKey().equals(new LeaderboardKey(invocation.getArgument(0),
+                        invocation.getArgument(1), invocation.getArgument(2))))
+                .sorted(SWEEP_ORDER));
+        worldRecordService = new WorldRecordService(worldRecordRepository, runRepository);
+    }
+
+    @Test
+    void lateConfirmedRunBeatingTheRecordOfItsDateIsInserted() {
+        confirm(entry(1, "any%", 10, 0));
+        confirm(entry(2, "any%", 5, 60));
+        confirm(entry(3, "any%", 8, 30));
+
+        assertEquals(List.of(1L, 3L, 2L), history());
+    }
+
+    @Test
+    void lateConfirmedTieKeepsTheEarlierRun() {
+        confirm(entry(1, "any%", 10, 0));
+        confirm(entry(2, "any%", 5, 60));
+        confirm(entry(3, "any%", 5, 30));
+
+        assertEquals(List.of(1L, 3L), history());
+    }
+
+    @Test
+    void slowerRunsChangeNothing() {
+        confirm(entry(1, "any%", 10, 0));
+        confirm(entry(2, "any%", 5, 60));
+        confirm(entry(3, "any%", 12, 30));
+        confirm(entry(4, "any%", 6, 90));
+
+        assertEquals(List.of(1L, 2L), history());
+    }
+
+    @Test
+    void incrementalUpdatesMatchARebuild() {
+        Random random = new Random(7);
+        List<LeaderboardEntry> entries = new ArrayList<>();
+        for (int i = 1; i <= 300; i++) {
+            LocalDateTime date = random.nextInt(10) == 0 ? null : START.plusMinutes(random.nextInt(100));
+            entries.add(new LeaderboardEntry(i, i, 1, random.nextBoolean() ? "any%" : "100%", 1,
+                    Duration.ofSeconds(10 + random.nextInt(40)), date, null));
+        }
+        Collections.shuffle(entries, random);
+        entries.forEach(this::confirm);
+        List<Long> incremental = history();
+
+        worldRecordService.rebuild();
+
+        assertEquals(history(), incremental);
+    }
+
+    private void confirm(LeaderboardEntry entry) {
+        confirmed.add(entry);
+        worldRecordService.onConfirmedRunSaved(entry);
+    }
+
+    private List<Long> history() {
+        return records.stream()
+                .sorted(Comparator.comparing(WorldRecord::getType)
+                        .thenComparing(WorldRecord::getDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparingLong(WorldRecord::getRunId))
+                .map(WorldRecord::getRunId)
+                .toList();
+    }
+
+    private static LeaderboardEntry entry(long runId, String type, int seconds, int minutesAfterStart) {
+        return new LeaderboardEntry(runId, runId, 1, type, 1, Duration.ofSeconds(seconds),
+                START.plusMinutes(minutesAfterStart), null);
+    }
+}
@@ -0,0 +1,58 @@
+package com.speedrundatabaseapi.user;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the Bloom filter behind the login and email availability checks.
+ */
+class BloomFilterTests {
+
+    private static final int CAPACITY = 10000;
+
+    @Test
+    void everyAddedValueMightBeContained() {
+        BloomFilter filter = new BloomFilter(CAPACITY, 0.01);
+        for (int i = 0; i < CAPACITY; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertTrue(filter.mightContain("user" + i + "@example.com"));
+        }
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(CAPACITY, 0.01);
+
+        assertFalse(filter.mightContain("runner"));
+        assertFalse(filter.mightContain(""));
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheConfiguredProbabilityAtCapacity() {
+        BloomFilter filter = new BloomFilter(CAPACITY, 0.01);
+        for (int i = 0; i < CAPACITY; i++) {
+            filter.put("login" + i);
+        }
+
+        int falsePositives = 0;
+        int checks = 100000;
+        for (int i = 0; i < checks; i++) {
+            if (filter.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < checks * 0.02, "false positive rate " + (double) falsePositives / checks);
+    }
+
+    @Test
+    void reportsItsCapacity() {
+        assertEquals(CAPACITY, new BloomFilter(CAPACITY, 0.01).getCapacity());
+    }
+}